@@ -5,6 +5,7 @@ import com.devkit.applications.domain.events.ApplicationCreatedEvent;
 import com.devkit.applications.domain.events.ApplicationDeactivatedEvent;
 import com.devkit.applications.domain.events.ApplicationDeletedEvent;
 import com.devkit.applications.domain.events.ApplicationUpdatedEvent;
+import com.devkit.multitenancy.domain.TenantUsageService;
 import com.devkit.shared.domain.ResourceNotFoundException;
 import com.devkit.shared.domain.SpringEventPublisher;
 import org.springframework.stereotype.Service;
@@ -19,12 +20,15 @@ public class ApplicationCommandService {
 
     private final ApplicationRepository applicationRepository;
     private final SpringEventPublisher eventPublisher;
+    private final TenantUsageService tenantUsageService;
 
     ApplicationCommandService(
             ApplicationRepository applicationRepository,
-            SpringEventPublisher eventPublisher) {
+            SpringEventPublisher eventPublisher,
+            TenantUsageService tenantUsageService) {
         this.applicationRepository = applicationRepository;
         this.eventPublisher = eventPublisher;
+        this.tenantUsageService = tenantUsageService;
     }
 
     /**
@@ -46,10 +50,12 @@ public class ApplicationCommandService {
         );
 
         applicationRepository.save(application);
+        tenantUsageService.adjustApplications(application.getTenantId(), 1);
         eventPublisher.publish(new ApplicationCreatedEvent(
                 application.getId().id(),
                 application.getName(),
-                application.getOwnerEmail()
+                application.getOwnerEmail(),
+                application.getTenantId()
         ));
 
         return application.getId().id();
@@ -131,9 +137,11 @@ public class ApplicationCommandService {
                         "Application not found with id: " + applicationId));
 
         applicationRepository.delete(application);
+        tenantUsageService.adjustApplications(application.getTenantId(), -1);
         eventPublisher.publish(new ApplicationDeletedEvent(
                 application.getId().id(),
-                application.getName()
+                application.getName(),
+                application.getTenantId()
         ));
     }
 }
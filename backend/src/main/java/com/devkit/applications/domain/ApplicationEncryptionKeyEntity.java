@@ -1,9 +1,12 @@
 package com.devkit.applications.domain;
 
 import com.devkit.applications.domain.vo.ApplicationKeyId;
+import com.devkit.shared.cache.SecondLevelCacheInvalidationListener;
 import com.devkit.shared.domain.AssertUtil;
 import com.devkit.shared.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -14,6 +17,9 @@ import java.util.Base64;
  * The key is stored encrypted (wrapped) using the master key.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.encryption-keys")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Table(name = "application_encryption_keys")
 public class ApplicationEncryptionKeyEntity extends BaseEntity {
 
@@ -195,4 +201,12 @@ public class ApplicationEncryptionKeyEntity extends BaseEntity {
     void setSaltDirectly(byte[] newSalt) {
         this.salt = newSalt;
     }
+
+    /**
+     * Package-private method to number a replacement key after the versions it replaces.
+     * Used by EncryptionKeyService.
+     */
+    void setKeyVersionDirectly(Integer keyVersion) {
+        this.keyVersion = keyVersion;
+    }
 }
@@ -2,8 +2,11 @@ package com.devkit.applications.domain;
 
 import com.devkit.applications.domain.vo.ApplicationKeyId;
 import com.devkit.shared.domain.ResourceNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.Optional;
  */
 public interface ApplicationEncryptionKeyRepository extends JpaRepository<ApplicationEncryptionKeyEntity, ApplicationKeyId> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT k FROM ApplicationEncryptionKeyEntity k
             WHERE k.applicationId = :applicationId
@@ -23,11 +27,13 @@ public interface ApplicationEncryptionKeyRepository extends JpaRepository<Applic
             """)
     List<ApplicationEncryptionKeyEntity> findActiveByApplicationId(@Param("applicationId") String applicationId);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT k FROM ApplicationEncryptionKeyEntity k
             WHERE k.applicationId = :applicationId
             AND k.isActive = true
             ORDER BY k.version DESC
+            LIMIT 1
             """)
     Optional<ApplicationEncryptionKeyEntity> findLatestActiveByApplicationId(@Param("applicationId") String applicationId);
 
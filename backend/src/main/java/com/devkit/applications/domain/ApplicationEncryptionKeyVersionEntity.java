@@ -0,0 +1,79 @@
+package com.devkit.applications.domain;
+
+import com.devkit.shared.domain.AssertUtil;
+import com.devkit.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A retired version of an application's encryption key.
+ * Kept after the key is rotated or replaced so values encrypted with it stay readable
+ * until they have been re-encrypted with the current key.
+ */
+@Entity
+@Table(name = "application_encryption_key_versions")
+public class ApplicationEncryptionKeyVersionEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false, length = 255, updatable = false)
+    private String applicationId;
+
+    @Column(name = "key_version", nullable = false, updatable = false)
+    private Integer keyVersion;
+
+    @Column(name = "encrypted_key", nullable = false, updatable = false, columnDefinition = "BLOB")
+    private byte[] encryptedKey;
+
+    @Column(name = "salt", nullable = false, updatable = false, columnDefinition = "BLOB")
+    private byte[] salt;
+
+    @Column(name = "retired_at", nullable = false, updatable = false)
+    private Instant retiredAt;
+
+    // Protected no-arg constructor for JPA
+    protected ApplicationEncryptionKeyVersionEntity() {}
+
+    /**
+     * Snapshot of a key as it is right now, before it is rotated or deactivated.
+     */
+    public static ApplicationEncryptionKeyVersionEntity retire(ApplicationEncryptionKeyEntity key) {
+        AssertUtil.requireNotNull(key, "Encryption key cannot be null");
+        var retired = new ApplicationEncryptionKeyVersionEntity();
+        retired.applicationId = key.getApplicationId();
+        retired.keyVersion = key.getKeyVersion();
+        retired.encryptedKey = key.getEncryptedKey();
+        retired.salt = key.getSalt();
+        retired.retiredAt = Instant.now();
+        return retired;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public Integer getKeyVersion() {
+        return keyVersion;
+    }
+
+    public byte[] getEncryptedKey() {
+        return encryptedKey;
+    }
+
+    public byte[] getSalt() {
+        return salt;
+    }
+
+    public Instant getRetiredAt() {
+        return retiredAt;
+    }
+}
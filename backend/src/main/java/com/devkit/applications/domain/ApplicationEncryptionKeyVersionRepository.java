@@ -0,0 +1,71 @@
+package com.devkit.applications.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for ApplicationEncryptionKeyVersionEntity.
+ */
+public interface ApplicationEncryptionKeyVersionRepository extends JpaRepository<ApplicationEncryptionKeyVersionEntity, Long> {
+
+    @Query("""
+            SELECT v FROM ApplicationEncryptionKeyVersionEntity v
+            WHERE v.applicationId = :applicationId
+            AND v.keyVersion = :keyVersion
+            """)
+    Optional<ApplicationEncryptionKeyVersionEntity> findByApplicationIdAndKeyVersion(
+            @Param("applicationId") String applicationId,
+            @Param("keyVersion") Integer keyVersion
+    );
+
+    @Query("""
+            SELECT COALESCE(MAX(v.keyVersion), 0) FROM ApplicationEncryptionKeyVersionEntity v
+            WHERE v.applicationId = :applicationId
+            """)
+    int findMaxKeyVersion(@Param("applicationId") String applicationId);
+
+    @Query("""
+            SELECT DISTINCT v.applicationId FROM ApplicationEncryptionKeyVersionEntity v
+            ORDER BY v.applicationId
+            """)
+    List<String> findApplicationIdsWithRetiredVersions();
+
+    /**
+     * Forget the retired versions of an application that no secret or configuration is encrypted with.
+     * The check runs in the same statement as the delete, so it does not depend on how a pass went.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "application_encryption_key_versions"))
+    @Query(value = """
+            DELETE FROM application_encryption_key_versions v
+            WHERE v.application_id = :applicationId
+            AND v.key_version <> :currentVersion
+            AND v.retired_at < :retiredBefore
+            AND NOT EXISTS (
+                SELECT 1 FROM secrets s
+                WHERE s.application_id = v.application_id
+                AND s.key_version = v.key_version
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM configurations c
+                JOIN environments e ON e.id = c.environment_id
+                WHERE e.application_id = v.application_id
+                AND c.encrypted_value IS NOT NULL
+                AND c.key_version = v.key_version
+            )
+            """, nativeQuery = true)
+    int deleteRetired(
+            @Param("applicationId") String applicationId,
+            @Param("currentVersion") Integer currentVersion,
+            @Param("retiredBefore") Instant retiredBefore
+    );
+}
@@ -1,9 +1,12 @@
 package com.devkit.applications.domain;
 
 import com.devkit.applications.domain.vo.ApplicationId;
+import com.devkit.shared.cache.SecondLevelCacheInvalidationListener;
 import com.devkit.shared.domain.AssertUtil;
 import com.devkit.shared.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +19,9 @@ import java.util.List;
  * This is the aggregate root for the Application bounded context.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.applications")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Table(name = "applications")
 public class ApplicationEntity extends BaseEntity {
 
@@ -0,0 +1,87 @@
+package com.devkit.applications.domain;
+
+import com.devkit.shared.security.EncryptionException;
+import com.devkit.shared.security.EncryptionService;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+
+/**
+ * Resolves the application keys that values are encrypted and decrypted with.
+ * <p>
+ * New values are always encrypted with the active key and stored together with its version.
+ * Values are decrypted with the key of the version they were written with, which is either the
+ * active key or a retired one kept until re-encryption has finished.
+ */
+@Component
+public class ApplicationKeyring {
+
+    private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
+    private final ApplicationEncryptionKeyVersionRepository keyVersionRepository;
+    private final EncryptionService encryptionService;
+
+    ApplicationKeyring(
+            ApplicationEncryptionKeyRepository encryptionKeyRepository,
+            ApplicationEncryptionKeyVersionRepository keyVersionRepository,
+            EncryptionService encryptionService) {
+        this.encryptionKeyRepository = encryptionKeyRepository;
+        this.keyVersionRepository = keyVersionRepository;
+        this.encryptionService = encryptionService;
+    }
+
+    /**
+     * Encrypt a value with the active key of an application.
+     */
+    public EncryptedValue encrypt(String applicationId, String plaintext) {
+        VersionedKey key = current(applicationId);
+        return new EncryptedValue(encryptionService.encryptForApp(plaintext, key.key()), key.version());
+    }
+
+    /**
+     * Decrypt a value written with the given key version; null stands for the active key.
+     */
+    public String decrypt(String applicationId, String encryptedValue, Integer keyVersion) {
+        return encryptionService.decryptForApp(encryptedValue, forVersion(applicationId, keyVersion).key());
+    }
+
+    /**
+     * The active key of an application.
+     */
+    public VersionedKey current(String applicationId) {
+        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(applicationId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Application encryption key not found. Please create an encryption key for this application first."));
+        return derive(encryptionKey.getKeyVersion(), encryptionKey.getEncryptedKey(), encryptionKey.getSalt());
+    }
+
+    /**
+     * The key a value written with {@code keyVersion} was encrypted with; null stands for the active key.
+     */
+    public VersionedKey forVersion(String applicationId, Integer keyVersion) {
+        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(applicationId).orElse(null);
+        if (encryptionKey != null && (keyVersion == null || keyVersion.equals(encryptionKey.getKeyVersion()))) {
+            return derive(encryptionKey.getKeyVersion(), encryptionKey.getEncryptedKey(), encryptionKey.getSalt());
+        }
+        if (keyVersion == null) {
+            throw new IllegalArgumentException(
+                    "Application encryption key not found. Please create an encryption key for this application first.");
+        }
+        return keyVersionRepository.findByApplicationIdAndKeyVersion(applicationId, keyVersion)
+                .map(retired -> derive(retired.getKeyVersion(), retired.getEncryptedKey(), retired.getSalt()))
+                .orElseThrow(() -> new EncryptionException(
+                        "Key version " + keyVersion + " of application " + applicationId + " is no longer available"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private VersionedKey derive(int version, byte[] wrappedKey, byte[] salt) {
+        String applicationKey = encryptionService.unwrapApplicationKey(wrappedKey);
+        return new VersionedKey(version, encryptionService.deriveApplicationKey(applicationKey, salt));
+    }
+
+    // ==================== Record Classes ====================
+
+    public record VersionedKey(int version, Key key) {}
+
+    public record EncryptedValue(String value, int keyVersion) {}
+}
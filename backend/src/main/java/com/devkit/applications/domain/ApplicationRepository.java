@@ -34,6 +34,12 @@ public interface ApplicationRepository extends JpaRepository<ApplicationEntity,
             """)
     List<ApplicationEntity> findByOwnerEmail(@Param("email") String email);
 
+    @Query("""
+            SELECT a.tenantId FROM ApplicationEntity a
+            WHERE a.id.id = :applicationId
+            """)
+    Optional<Long> findTenantIdById(@Param("applicationId") String applicationId);
+
     // Convenience methods using default interface methods
     default ApplicationEntity getByName(String name) {
         return this.findByName(name)
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Service for managing application encryption keys.
@@ -17,21 +18,25 @@ import java.time.Instant;
 public class EncryptionKeyService {
 
     private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
+    private final ApplicationEncryptionKeyVersionRepository keyVersionRepository;
     private final ApplicationRepository applicationRepository;
     private final EncryptionService encryptionService;
 
     EncryptionKeyService(
             ApplicationEncryptionKeyRepository encryptionKeyRepository,
+            ApplicationEncryptionKeyVersionRepository keyVersionRepository,
             ApplicationRepository applicationRepository,
             EncryptionService encryptionService) {
         this.encryptionKeyRepository = encryptionKeyRepository;
+        this.keyVersionRepository = keyVersionRepository;
         this.applicationRepository = applicationRepository;
         this.encryptionService = encryptionService;
     }
 
     /**
      * Create a new encryption key for an application.
-     * Deactivates any existing active keys for the application.
+     * Deactivates any existing active keys for the application. Their versions are retired, not
+     * discarded, so existing values stay readable until they have been re-encrypted.
      *
      * @param applicationId the application ID
      * @param plaintextKey the encryption key (or null to auto-generate)
@@ -44,8 +49,13 @@ public class EncryptionKeyService {
                         com.devkit.applications.domain.vo.ApplicationId.of(applicationId))
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found: " + applicationId));
 
-        encryptionKeyRepository.findActiveByApplicationId(applicationId)
-                .forEach(key -> key.deactivate());
+        List<ApplicationEncryptionKeyEntity> activeKeys = encryptionKeyRepository.findActiveByApplicationId(applicationId);
+        activeKeys.forEach(key -> {
+            keyVersionRepository.save(ApplicationEncryptionKeyVersionEntity.retire(key));
+            key.deactivate();
+        });
+        // Deactivate before inserting the replacement; only one key per application may be active
+        encryptionKeyRepository.saveAllAndFlush(activeKeys);
 
         if (plaintextKey == null || plaintextKey.isBlank()) {
             plaintextKey = EncryptionService.generateApplicationKey();
@@ -65,6 +75,7 @@ public class EncryptionKeyService {
                 keyHash,
                 salt
         );
+        keyEntity.setKeyVersionDirectly(nextKeyVersion(applicationId));
 
         encryptionKeyRepository.save(keyEntity);
 
@@ -101,8 +112,8 @@ public class EncryptionKeyService {
 
     /**
      * Rotate an application's encryption key.
-     * WARNING: Existing data encrypted with the old key will NOT be automatically re-encrypted.
-     * A separate data migration process is required to re-encrypt secrets and configurations.
+     * The old version is retired and stays readable; {@link KeyReencryptionJob} re-encrypts existing
+     * secrets and configurations with the new key in the background.
      *
      * @param applicationId the application ID
      * @param newPlaintextKey the new encryption key (or null to auto-generate)
@@ -129,6 +140,7 @@ public class EncryptionKeyService {
         String newKeyHash = encryptionService.hashApplicationKey(newPlaintextKey);
         byte[] newWrappedKey = encryptionService.wrapApplicationKey(newPlaintextKey);
 
+        keyVersionRepository.save(ApplicationEncryptionKeyVersionEntity.retire(existingKey));
         existingKey.rotate(newWrappedKey, newKeyHash, rotatedBy);
         existingKey.setSaltDirectly(newSalt);
 
@@ -164,6 +176,17 @@ public class EncryptionKeyService {
                 .orElse(false);
     }
 
+    /**
+     * Versions only ever go up, so a new key never reuses the number of a retired one.
+     */
+    private int nextKeyVersion(String applicationId) {
+        int latest = encryptionKeyRepository.findAllByApplicationId(applicationId).stream()
+                .mapToInt(ApplicationEncryptionKeyEntity::getKeyVersion)
+                .max()
+                .orElse(0);
+        return Math.max(latest, keyVersionRepository.findMaxKeyVersion(applicationId)) + 1;
+    }
+
     /**
      * Result record for encryption key operations.
      */
@@ -0,0 +1,261 @@
+package com.devkit.applications.domain;
+
+import com.devkit.applications.domain.events.ApplicationKeyReencryptedEvent;
+import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.shared.scheduling.SchedulerLock;
+import com.devkit.shared.security.EncryptionException;
+import com.devkit.shared.security.EncryptionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Re-encrypts secrets and configurations with the current key of their application after the key
+ * has been rotated or replaced.
+ * <p>
+ * Values are read in id order, a batch at a time, and written back with one JDBC batch per
+ * transaction. An update only applies if the row's optimistic lock version has not changed since it
+ * was read, and it bumps that version, so neither a concurrent write nor a JPA transaction holding
+ * the old row can be overwritten or write the old ciphertext back. Rows that changed are skipped and
+ * picked up by a later pass. Migrated values stop matching the query, so an interrupted pass simply
+ * continues where it left off on the next run. A retired key version is deleted only once no secret
+ * or configuration is encrypted with it any more; values that cannot be decrypted are logged and
+ * keep their version around.
+ */
+@Component
+public class KeyReencryptionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyReencryptionJob.class);
+
+    private static final Duration LEASE = Duration.ofHours(1);
+
+    /**
+     * A value may still be written with a retired key by a transaction that started before the rotation;
+     * versions retired more recently than this are kept for the next pass to pick such values up.
+     */
+    private static final Duration RETIRE_GRACE = Duration.ofMinutes(5);
+
+    private static final Table SECRETS = new Table(
+        "secrets",
+        """
+            SELECT s.id, s.encrypted_value, s.key_version, s.version
+            FROM secrets s
+            WHERE s.application_id = ?
+              AND s.key_version IS DISTINCT FROM ?
+              AND s.id > ?
+            ORDER BY s.id
+            LIMIT ?
+            """,
+        """
+            UPDATE secrets SET encrypted_value = ?, key_version = ?, version = version + 1
+            WHERE id = ? AND version = ? AND encrypted_value = ?
+            """
+    );
+
+    private static final Table CONFIGURATIONS = new Table(
+        "configurations",
+        """
+            SELECT c.id, c.encrypted_value, c.key_version, c.version
+            FROM configurations c
+            JOIN environments e ON e.id = c.environment_id
+            WHERE e.application_id = ?
+              AND c.encrypted_value IS NOT NULL
+              AND c.key_version IS DISTINCT FROM ?
+              AND c.id > ?
+            ORDER BY c.id
+            LIMIT ?
+            """,
+        """
+            UPDATE configurations SET encrypted_value = ?, key_version = ?, version = version + 1
+            WHERE id = ? AND version = ? AND encrypted_value = ?
+            """
+    );
+
+    private final ApplicationKeyring keyring;
+    private final ApplicationEncryptionKeyVersionRepository keyVersionRepository;
+    private final EncryptionService encryptionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLock schedulerLock;
+    private final SpringEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+
+    KeyReencryptionJob(
+            ApplicationKeyring keyring,
+            ApplicationEncryptionKeyVersionRepository keyVersionRepository,
+            EncryptionService encryptionService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            SchedulerLock schedulerLock,
+            SpringEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${devkit.security.encryption.reencryption.batch-size:200}") int batchSize,
+            @Value("${devkit.security.encryption.reencryption.max-rows-per-second:500}") int maxRowsPerSecond) {
+        this.keyring = keyring;
+        this.keyVersionRepository = keyVersionRepository;
+        this.encryptionService = encryptionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerLock = schedulerLock;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    /**
+     * Migrate every application that has retired key versions. Runs on one node of the cluster.
+     */
+    @Scheduled(fixedDelayString = "${devkit.security.encryption.reencryption.poll-interval:PT1M}")
+    public void run() {
+        schedulerLock.executeWithLock("key-reencryption", LEASE, () -> {
+            for (String applicationId : keyVersionRepository.findApplicationIdsWithRetiredVersions()) {
+                try {
+                    reencrypt(applicationId);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to re-encrypt values of application {}; retrying on the next run",
+                        applicationId, e);
+                }
+            }
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void reencrypt(String applicationId) {
+        Instant startedAt = Instant.now();
+        ApplicationKeyring.VersionedKey target = keyring.current(applicationId);
+        // Versions that are no longer available map to an empty key, so they are looked up only once
+        Map<Integer, Optional<Key>> sourceKeys = new HashMap<>();
+
+        Progress progress = new Progress();
+        reencrypt(SECRETS, applicationId, target, sourceKeys, progress);
+        if (progress.migrated > 0) {
+            // Cached secret maps hold the old ciphertexts
+            eventPublisher.publish(new ApplicationKeyReencryptedEvent(applicationId, target.version()));
+        }
+        reencrypt(CONFIGURATIONS, applicationId, target, sourceKeys, progress);
+
+        if (progress.migrated > 0 || progress.failed > 0 || progress.skipped > 0) {
+            logger.info("Re-encrypted {} values of application {} with key version {} ({} failed, {} changed concurrently)",
+                progress.migrated, applicationId, target.version(), progress.failed, progress.skipped);
+        }
+        // Only versions nothing is encrypted with any more are deleted, whatever the pass counted
+        Integer retired = transactionTemplate.execute(status -> keyVersionRepository.deleteRetired(
+            applicationId, target.version(), startedAt.minus(RETIRE_GRACE)));
+        if (retired != null && retired > 0) {
+            logger.info("Deleted {} retired key versions of application {}", retired, applicationId);
+        }
+    }
+
+    private void reencrypt(
+            Table table,
+            String applicationId,
+            ApplicationKeyring.VersionedKey target,
+            Map<Integer, Optional<Key>> sourceKeys,
+            Progress progress) {
+
+        Counter migrated = meterRegistry.counter("devkit.encryption.reencrypted", "table", table.name());
+        Counter failed = meterRegistry.counter("devkit.encryption.reencryption.failed", "table", table.name());
+        String afterId = "";
+
+        while (true) {
+            long batchStart = System.nanoTime();
+            List<Row> rows = jdbcTemplate.query(
+                table.selectSql(),
+                (rs, rowNum) -> new Row(rs.getString(1), rs.getString(2), (Integer) rs.getObject(3), rs.getInt(4)),
+                applicationId, target.version(), afterId, batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                try {
+                    Key sourceKey = sourceKeys.computeIfAbsent(row.keyVersion(), version -> sourceKey(applicationId, version))
+                        .orElseThrow(() -> new EncryptionException("Key version is no longer available"));
+                    String plaintext = encryptionService.decryptForApp(row.encryptedValue(), sourceKey);
+                    updates.add(new Object[] {
+                        encryptionService.encryptForApp(plaintext, target.key()), target.version(),
+                        row.id(), row.version(), row.encryptedValue()
+                    });
+                } catch (RuntimeException e) {
+                    progress.failed++;
+                    failed.increment();
+                    logger.warn("Cannot re-encrypt {} {} of application {} (key version {}): {}",
+                        table.name(), row.id(), applicationId, row.keyVersion(), e.getMessage());
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(table.updateSql(), updates));
+                // A row that changed since it was read is left for a later pass
+                long applied = Arrays.stream(counts).filter(count -> count > 0).count();
+                progress.migrated += applied;
+                progress.skipped += updates.size() - applied;
+                migrated.increment(applied);
+            }
+            afterId = rows.get(rows.size() - 1).id();
+
+            throttle(rows.size(), System.nanoTime() - batchStart);
+        }
+    }
+
+    private Optional<Key> sourceKey(String applicationId, Integer keyVersion) {
+        try {
+            return Optional.of(keyring.forVersion(applicationId, keyVersion).key());
+        } catch (EncryptionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Spread batches out so re-encryption stays below {@code max-rows-per-second}.
+     */
+    private void throttle(int rows, long elapsedNanos) {
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long pauseMillis = rows * 1000L / maxRowsPerSecond - elapsedNanos / 1_000_000;
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while re-encrypting", e);
+        }
+    }
+
+    // ==================== Record Classes ====================
+
+    private record Table(String name, String selectSql, String updateSql) {}
+
+    private record Row(String id, String encryptedValue, Integer keyVersion, int version) {}
+
+    private static final class Progress {
+        private long migrated;
+        private long failed;
+        private long skipped;
+    }
+}
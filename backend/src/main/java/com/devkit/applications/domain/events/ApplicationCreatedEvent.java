@@ -6,6 +6,7 @@ package com.devkit.applications.domain.events;
 public record ApplicationCreatedEvent(
     String applicationId,
     String name,
-    String ownerEmail
+    String ownerEmail,
+    Long tenantId
 ) {
 }
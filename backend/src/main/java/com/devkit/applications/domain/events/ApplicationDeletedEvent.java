@@ -5,6 +5,7 @@ package com.devkit.applications.domain.events;
  */
 public record ApplicationDeletedEvent(
     String applicationId,
-    String name
+    String name,
+    Long tenantId
 ) {
 }
@@ -0,0 +1,10 @@
+package com.devkit.applications.domain.events;
+
+/**
+ * Domain event published when stored values of an Application were re-encrypted with its current key.
+ */
+public record ApplicationKeyReencryptedEvent(
+    String applicationId,
+    Integer keyVersion
+) {
+}
@@ -0,0 +1,19 @@
+package com.devkit.audit.domain;
+
+/**
+ * How an audit entry is written.
+ */
+public enum AuditDurability {
+
+    /**
+     * Saved in the caller's transaction: the entry commits or rolls back with the audited change.
+     */
+    SYNC,
+
+    /**
+     * Buffered after the caller's transaction commits and written in batches by the
+     * {@link AuditLogWriter}. Cheaper on hot paths, but entries still buffered are lost if the
+     * node stops abruptly, and new entries are dropped while the buffer is full.
+     */
+    ASYNC
+}
@@ -0,0 +1,219 @@
+package com.devkit.audit.domain;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams audit entries to an output stream in constant memory.
+ * <p>
+ * Rows are read in a read-only transaction through a forward-only cursor with a fetch size, so
+ * PostgreSQL hands them over {@code fetch-size} at a time instead of materialising the whole
+ * result, and each row is written out as soon as it is read.
+ */
+@Component
+public class AuditExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditExporter.class);
+
+    private static final String[] COLUMNS = {
+        "id", "created_at", "tenant_id", "entity_type", "entity_id", "action", "actor",
+        "ip_address", "user_agent", "success", "error_message"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    public AuditExporter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${devkit.audit.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Write every entry matching the filter, oldest first. Returns the number of rows written.
+     */
+    public long export(AuditLogFilter filter, AuditExportFormat format, OutputStream out) throws IOException {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT " + String.join(", ", COLUMNS) + " FROM audit_logs "
+            + filter.toWhereClause(args) + " ORDER BY created_at, id";
+
+        long rows = write(sql, args, format, out);
+        logger.info("Exported {} audit entries as {}", rows, format);
+        return rows;
+    }
+
+    /**
+     * Write every entry of a detached {@code audit_logs} partition, oldest first, for archiving.
+     * {@code partition} must be a plain table name. Returns the number of rows written.
+     */
+    public long exportPartition(String partition, AuditExportFormat format, OutputStream out) throws IOException {
+        String sql = "SELECT " + String.join(", ", COLUMNS) + " FROM " + partition + " ORDER BY created_at, id";
+        return write(sql, List.of(), format, out);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private long write(String sql, List<Object> args, AuditExportFormat format, OutputStream out) throws IOException {
+        RowWriter rowWriter = format == AuditExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long[] rows = new long[1];
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(cursor(sql, args), (RowCallbackHandler) resultSet -> {
+                    try {
+                        rowWriter.write(resultSet);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                })
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rowWriter.finish();
+        return rows[0];
+    }
+
+    private PreparedStatementCreator cursor(String sql, List<Object> args) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        };
+    }
+
+    private static String timestamp(ResultSet resultSet, String column) throws SQLException {
+        Timestamp value = resultSet.getTimestamp(column);
+        return value != null ? value.toInstant().toString() : null;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(switch (COLUMNS[i]) {
+                    case "created_at" -> timestamp(resultSet, COLUMNS[i]);
+                    case "success" -> String.valueOf(resultSet.getBoolean(COLUMNS[i]));
+                    default -> resultSet.getString(COLUMNS[i]);
+                });
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", resultSet.getString("id"));
+            generator.writeStringField("createdAt", timestamp(resultSet, "created_at"));
+            long tenantId = resultSet.getLong("tenant_id");
+            if (resultSet.wasNull()) {
+                generator.writeNullField("tenantId");
+            } else {
+                generator.writeNumberField("tenantId", tenantId);
+            }
+            generator.writeStringField("entityType", resultSet.getString("entity_type"));
+            generator.writeStringField("entityId", resultSet.getString("entity_id"));
+            generator.writeStringField("action", resultSet.getString("action"));
+            generator.writeStringField("actor", resultSet.getString("actor"));
+            generator.writeStringField("ipAddress", resultSet.getString("ip_address"));
+            generator.writeStringField("userAgent", resultSet.getString("user_agent"));
+            generator.writeBooleanField("success", resultSet.getBoolean("success"));
+            generator.writeStringField("errorMessage", resultSet.getString("error_message"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.devkit.audit.domain;
+
+import com.devkit.shared.persistence.PartitionArchiver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archives expired {@code audit_logs} partitions to gzip-compressed NDJSON files named
+ * {@code <partition>.ndjson.gz}, in the same format as NDJSON exports.
+ * <p>
+ * Each file is written under a temporary name and moved into place once complete, so an
+ * interrupted archive never leaves a truncated file that looks finished.
+ */
+@Component
+public class AuditLogArchiver implements PartitionArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogArchiver.class);
+
+    private final AuditExporter auditExporter;
+    private final Path directory;
+
+    public AuditLogArchiver(
+            AuditExporter auditExporter,
+            @Value("${devkit.audit.archive.directory:./data/audit-archive}") Path directory) {
+        this.auditExporter = auditExporter;
+        this.directory = directory;
+    }
+
+    @Override
+    public void archive(String partition) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(partition + ".ndjson.gz");
+        Path temporary = directory.resolve(partition + ".ndjson.gz.tmp");
+
+        long rows;
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)), 64 * 1024)) {
+            rows = auditExporter.exportPartition(partition, AuditExportFormat.NDJSON, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        logger.info("Archived {} audit entries from {} to {}", rows, partition, target);
+    }
+}
@@ -21,6 +21,9 @@ public class AuditLogEntity {
     @Column(name = "id", nullable = false, updatable = false, length = 255)
     private String id;
 
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
     @Column(name = "entity_type", nullable = false, length = 100)
     private String entityType;
 
@@ -51,6 +54,7 @@ public class AuditLogEntity {
     protected AuditLogEntity() {}
 
     private AuditLogEntity(
+            Long tenantId,
             String entityType,
             String entityId,
             String action,
@@ -60,6 +64,7 @@ public class AuditLogEntity {
             boolean success,
             String errorMessage) {
         this.id = IdGenerator.generateString();
+        this.tenantId = tenantId;
         this.entityType = AssertUtil.requireNotBlank(entityType, "Entity type cannot be null or empty");
         this.entityId = AssertUtil.requireNotBlank(entityId, "Entity id cannot be null or empty");
         this.action = AssertUtil.requireNotBlank(action, "Action cannot be null or empty");
@@ -71,7 +76,11 @@ public class AuditLogEntity {
         this.createdAt = Instant.now();
     }
 
+    /**
+     * @param tenantId the tenant the audited entity belongs to; null for entries outside any tenant
+     */
     public static AuditLogEntity create(
+            Long tenantId,
             String entityType,
             String entityId,
             String action,
@@ -80,7 +89,7 @@ public class AuditLogEntity {
             String userAgent,
             boolean success,
             String errorMessage) {
-        return new AuditLogEntity(entityType, entityId, action, actor, ipAddress, userAgent, success, errorMessage);
+        return new AuditLogEntity(tenantId, entityType, entityId, action, actor, ipAddress, userAgent, success, errorMessage);
     }
 
     @PrePersist
@@ -97,6 +106,10 @@ public class AuditLogEntity {
         return id;
     }
 
+    public Long getTenantId() {
+        return tenantId;
+    }
+
     public String getEntityType() {
         return entityType;
     }
@@ -0,0 +1,88 @@
+package com.devkit.audit.domain;
+
+import com.devkit.shared.domain.AssertUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria for selecting audit entries of one tenant. Apart from the tenant, which is required,
+ * null fields match everything. {@code from} is inclusive and {@code to} exclusive.
+ */
+public record AuditLogFilter(
+    Long tenantId,
+    Instant from,
+    Instant to,
+    String entityType,
+    String entityId,
+    String actor,
+    String action
+) {
+
+    public AuditLogFilter {
+        AssertUtil.requireNotNull(tenantId, "Tenant ID cannot be null");
+    }
+
+    /**
+     * SQL condition over {@code audit_logs} columns, starting with {@code WHERE} unless empty.
+     * Values go into {@code args} in placeholder order.
+     */
+    String toWhereClause(List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("tenant_id = ?");
+        args.add(tenantId);
+        if (from != null) {
+            conditions.add("created_at >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            conditions.add("created_at < ?");
+            args.add(Timestamp.from(to));
+        }
+        addEquals(conditions, args, "entity_type", entityType);
+        addEquals(conditions, args, "entity_id", entityId);
+        addEquals(conditions, args, "actor", actor);
+        addEquals(conditions, args, "action", action);
+        return "WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * The same criteria as a JPA specification.
+     */
+    Specification<AuditLogEntity> toSpecification() {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), to));
+            }
+            addEquals(predicates, cb, root.get("entityType"), entityType);
+            addEquals(predicates, cb, root.get("entityId"), entityId);
+            addEquals(predicates, cb, root.get("actor"), actor);
+            addEquals(predicates, cb, root.get("action"), action);
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addEquals(List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
+        if (value != null && !value.isBlank()) {
+            predicates.add(cb.equal(path, value));
+        }
+    }
+
+    private static void addEquals(List<String> conditions, List<Object> args, String column, String value) {
+        if (value != null && !value.isBlank()) {
+            conditions.add(column + " = ?");
+            args.add(value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.devkit.audit.domain;
+
+import com.devkit.shared.persistence.PartitionedTable;
+import com.devkit.shared.persistence.TimePartitionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Registers the monthly partitions of {@code audit_logs} for maintenance.
+ * A month of entries is removed once it ended more than {@code retention-days} ago, by detaching
+ * and dropping its partition, never by deleting rows. With archiving enabled, the partition is
+ * first written to a compressed file by {@link AuditLogArchiver}.
+ */
+@Component
+public class AuditLogPartitions {
+
+    private static final int PREMAKE_MONTHS = 3;
+
+    public AuditLogPartitions(
+            TimePartitionManager partitionManager,
+            AuditLogArchiver archiver,
+            @Value("${devkit.audit.retention-days:90}") int retentionDays,
+            @Value("${devkit.audit.archive.enabled:false}") boolean archiveEnabled) {
+        partitionManager.register(new PartitionedTable(
+            "audit_logs",
+            PartitionedTable.PartitionInterval.MONTHLY,
+            PREMAKE_MONTHS,
+            retentionDays > 0 ? Duration.ofDays(retentionDays) : null,
+            archiveEnabled ? archiver : null
+        ));
+    }
+}
@@ -1,22 +1,14 @@
 package com.devkit.audit.domain;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-import java.time.Instant;
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for AuditLogEntity.
  */
-public interface AuditLogRepository extends JpaRepository<AuditLogEntity, String> {
+public interface AuditLogRepository extends JpaRepository<AuditLogEntity, String>, JpaSpecificationExecutor<AuditLogEntity> {
 
-    Page<AuditLogEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
-
-    List<AuditLogEntity> findByEntityTypeAndEntityIdOrderByCreatedAtDesc(String entityType, String entityId);
-
-    List<AuditLogEntity> findByActorOrderByCreatedAtDesc(String actor);
-
-    long countByCreatedAtAfter(Instant since);
+    Optional<AuditLogEntity> findByIdAndTenantId(String id, Long tenantId);
 }
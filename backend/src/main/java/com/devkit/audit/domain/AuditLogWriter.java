@@ -0,0 +1,251 @@
+package com.devkit.audit.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes asynchronous audit entries in batches.
+ * <p>
+ * Entries go into a lock-free queue bounded by {@code buffer-capacity}; a single background
+ * thread drains it every {@code flush-interval}, or as soon as a full batch is waiting, with
+ * JDBC batch inserts. A batch that fails is kept and retried on the next flush, so entries are
+ * only dropped when the buffer is full.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_logs (
+            id, tenant_id, entity_type, entity_id, action, actor, ip_address, user_agent, success, error_message, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditStatsStore statsStore;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditWriterProperties properties;
+    private final Queue<AuditLogEntity> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedFlushCounter;
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    /**
+     * Batch that failed to insert, retried before anything else. Only touched by the flusher thread.
+     */
+    private List<AuditLogEntity> failedBatch;
+    private int failedAttempts;
+
+    public AuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            AuditStatsStore statsStore,
+            PlatformTransactionManager transactionManager,
+            AuditWriterProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statsStore = statsStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("devkit.audit.writer.buffered", buffered, AtomicInteger::get)
+            .description("Audit entries waiting to be written")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("devkit.audit.writer.written")
+            .description("Audit entries written asynchronously")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("devkit.audit.writer.dropped")
+            .description("Audit entries dropped because the buffer was full")
+            .register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("devkit.audit.writer.flush.failed")
+            .description("Batch inserts that failed and will be retried")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("devkit.audit.writer.flush")
+            .description("Time to insert one batch")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("devkit.audit.writer.lag")
+            .description("Time from logging an entry to writing it")
+            .register(meterRegistry);
+
+        long interval = properties.getFlushInterval().toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Buffer an entry, after commit when a transaction is active.
+     */
+    public void write(AuditLogEntity entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(entry);
+            }
+        });
+    }
+
+    /**
+     * Write everything buffered before the datasource goes away.
+     */
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+        if (buffered.get() > 0) {
+            logger.warn("Discarding {} audit entries that could not be written at shutdown", buffered.get());
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void offer(AuditLogEntity entry) {
+        if (buffered.incrementAndGet() > properties.getBufferCapacity()) {
+            buffered.decrementAndGet();
+            droppedCounter.increment();
+            logger.warn("Audit buffer full, dropped {} on {} {}",
+                entry.getAction(), entry.getEntityType(), entry.getEntityId());
+            return;
+        }
+        buffer.add(entry);
+        if (buffered.get() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (RuntimeException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            failedAttempts++;
+            failedFlushCounter.increment();
+            logger.error("Failed to write {} audit entries, will retry", failedBatch != null ? failedBatch.size() : 0, e);
+        }
+    }
+
+    /**
+     * Write full batches until the buffer is empty. Stops at the first failure.
+     */
+    private void flush() {
+        while (true) {
+            List<AuditLogEntity> batch = failedBatch != null ? failedBatch : drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            failedBatch = batch;
+            if (failedAttempts >= MAX_BATCH_ATTEMPTS) {
+                insertEach(batch);
+            } else {
+                flushTimer.record(() -> insert(batch));
+            }
+            failedBatch = null;
+            failedAttempts = 0;
+
+            buffered.addAndGet(-batch.size());
+            writtenCounter.increment(batch.size());
+            Instant now = Instant.now();
+            batch.forEach(entry -> lagTimer.record(Duration.between(entry.getCreatedAt(), now)));
+        }
+    }
+
+    private List<AuditLogEntity> drain() {
+        List<AuditLogEntity> batch = new ArrayList<>(Math.min(properties.getBatchSize(), buffered.get()));
+        AuditLogEntity entry;
+        while (batch.size() < properties.getBatchSize() && (entry = buffer.poll()) != null) {
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /**
+     * Insert a batch that keeps failing one row at a time, dropping rows the database rejects
+     * so one bad entry cannot hold back the rest. Other errors propagate and the batch is retried.
+     */
+    private void insertEach(List<AuditLogEntity> batch) {
+        for (AuditLogEntity entry : batch) {
+            try {
+                insert(List.of(entry));
+            } catch (DataIntegrityViolationException e) {
+                droppedCounter.increment();
+                logger.error("Dropped audit entry {} rejected by the database: {} {} on {} {}",
+                    entry.getId(), entry.getAction(), entry.getActor(), entry.getEntityType(), entry.getEntityId(), e);
+            }
+        }
+    }
+
+    /**
+     * Insert a batch and add it to the statistics rollups in one transaction.
+     */
+    private void insert(List<AuditLogEntity> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            insertRows(batch);
+            statsStore.record(batch);
+        });
+    }
+
+    private void insertRows(List<AuditLogEntity> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, entry.getId());
+            ps.setObject(2, entry.getTenantId(), Types.BIGINT);
+            ps.setString(3, entry.getEntityType());
+            ps.setString(4, entry.getEntityId());
+            ps.setString(5, entry.getAction());
+            ps.setString(6, entry.getActor());
+            ps.setString(7, entry.getIpAddress());
+            ps.setString(8, entry.getUserAgent());
+            ps.setBoolean(9, entry.getSuccess());
+            ps.setString(10, entry.getErrorMessage());
+            ps.setTimestamp(11, Timestamp.from(entry.getCreatedAt()));
+        });
+    }
+}
@@ -1,27 +1,70 @@
 package com.devkit.audit.domain;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import com.devkit.shared.domain.AssertUtil;
+import com.devkit.shared.persistence.KeysetCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
  * Service for writing and querying audit logs.
+ * Actions listed in {@code devkit.audit.writer.sync-actions} are saved in the caller's
+ * transaction; the rest use the configured default durability.
  */
 @Service
 public class AuditService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditWriterProperties writerProperties;
+    private final AuditExporter auditExporter;
+    private final AuditStatsStore statsStore;
+    private final TransactionTemplate transactionTemplate;
 
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(
+            AuditLogRepository auditLogRepository,
+            AuditLogWriter auditLogWriter,
+            AuditWriterProperties writerProperties,
+            AuditExporter auditExporter,
+            AuditStatsStore statsStore,
+            PlatformTransactionManager transactionManager) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.writerProperties = writerProperties;
+        this.auditExporter = auditExporter;
+        this.statsStore = statsStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public AuditLogEntity log(
+            Long tenantId,
+            String entityType,
+            String entityId,
+            String action,
+            String actor,
+            String ipAddress,
+            String userAgent,
+            boolean success,
+            String errorMessage) {
+        AuditDurability durability = writerProperties.getSyncActions().contains(action)
+            ? AuditDurability.SYNC
+            : writerProperties.getDefaultDurability();
+        return log(durability, tenantId, entityType, entityId, action, actor, ipAddress, userAgent, success, errorMessage);
     }
 
     public AuditLogEntity log(
+            AuditDurability durability,
+            Long tenantId,
             String entityType,
             String entityId,
             String action,
@@ -31,6 +74,7 @@ public class AuditService {
             boolean success,
             String errorMessage) {
         AuditLogEntity entry = AuditLogEntity.create(
+            tenantId,
             entityType,
             entityId,
             action,
@@ -40,28 +84,68 @@ public class AuditService {
             success,
             errorMessage
         );
-        return auditLogRepository.save(entry);
+        if (durability == AuditDurability.SYNC) {
+            return transactionTemplate.execute(status -> {
+                AuditLogEntity saved = auditLogRepository.save(entry);
+                statsStore.record(List.of(saved));
+                return saved;
+            });
+        }
+        auditLogWriter.write(entry);
+        return entry;
     }
 
-    public Page<AuditLogEntity> getLogs(int page, int limit) {
-        Pageable pageable = PageRequest.of(page, Math.max(1, limit));
-        return auditLogRepository.findAllByOrderByCreatedAtDesc(pageable);
+    /**
+     * Entries matching the filter, newest first, starting after {@code cursor} (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public List<AuditLogEntity> getLogs(AuditLogFilter filter, KeysetCursor cursor, int limit) {
+        Specification<AuditLogEntity> specification = filter.toSpecification().and(after(cursor));
+        return auditLogRepository.findBy(specification, query -> query
+            .sortBy(NEWEST_FIRST)
+            .limit(limit)
+            .all());
     }
 
-    public AuditLogEntity getById(String id) {
-        return auditLogRepository.findById(id).orElse(null);
+    /**
+     * The entry with this id, or null if there is none in the tenant.
+     */
+    @Transactional(readOnly = true)
+    public AuditLogEntity getById(Long tenantId, String id) {
+        return auditLogRepository.findByIdAndTenantId(id, AssertUtil.requireNotNull(tenantId, "Tenant ID cannot be null"))
+            .orElse(null);
     }
 
-    public List<AuditLogEntity> getByEntity(String entityType, String entityId) {
-        return auditLogRepository.findByEntityTypeAndEntityIdOrderByCreatedAtDesc(entityType, entityId);
+    /**
+     * Counts and breakdowns from the statistics rollups, for one tenant.
+     */
+    @Transactional(readOnly = true)
+    public AuditStatsSummary getStats(Long tenantId) {
+        return statsStore.summary(AssertUtil.requireNotNull(tenantId, "Tenant ID cannot be null"), Instant.now());
     }
 
-    public List<AuditLogEntity> getByUser(String userId) {
-        return auditLogRepository.findByActorOrderByCreatedAtDesc(userId);
+    /**
+     * Stream matching entries to {@code out}, oldest first, without holding them in memory.
+     */
+    public long export(AuditLogFilter filter, AuditExportFormat format, OutputStream out) throws IOException {
+        return auditExporter.export(filter, format, out);
     }
 
-    public long countSinceDays(int days) {
-        Instant since = Instant.now().minus(days, ChronoUnit.DAYS);
-        return auditLogRepository.countByCreatedAtAfter(since);
+    // ==================== Helper Methods ====================
+
+    /**
+     * Entries strictly after the cursor in {@code (created_at DESC, id DESC)} order.
+     */
+    private static Specification<AuditLogEntity> after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+            cb.and(
+                cb.equal(root.get("createdAt"), cursor.createdAt()),
+                cb.lessThan(root.<String>get("id"), cursor.id())
+            )
+        );
     }
 }
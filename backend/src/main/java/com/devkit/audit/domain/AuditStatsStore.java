@@ -0,0 +1,167 @@
+package com.devkit.audit.domain;
+
+import com.devkit.shared.scheduling.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Hourly and daily audit counts per tenant, entity type, action and actor.
+ * <p>
+ * Counts are added in the same transaction that writes the entries, so the rollups never
+ * disagree with {@code audit_logs}. Statistics are then read from the rollups, whose size
+ * depends on the number of distinct keys per bucket rather than on the number of entries.
+ */
+@Component
+public class AuditStatsStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditStatsStore.class);
+
+    private static final int TOP_ACTORS = 10;
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO %1$s (bucket_start, tenant_id, entity_type, action, actor, entry_count, failure_count)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT ON CONSTRAINT uq_%1$s DO UPDATE
+        SET entry_count = %1$s.entry_count + EXCLUDED.entry_count,
+            failure_count = %1$s.failure_count + EXCLUDED.failure_count
+        """;
+
+    private static final Comparator<Key> KEY_ORDER = Comparator
+        .comparing(Key::bucketStart)
+        .thenComparing(Key::tenantId, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Key::entityType)
+        .thenComparing(Key::action)
+        .thenComparing(Key::actor, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final Duration CLEANUP_LEASE = Duration.ofMinutes(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLock schedulerLock;
+    private final Duration hourlyRetention;
+
+    public AuditStatsStore(
+            JdbcTemplate jdbcTemplate,
+            SchedulerLock schedulerLock,
+            @Value("${devkit.audit.stats.hourly-retention:P30D}") Duration hourlyRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLock = schedulerLock;
+        this.hourlyRetention = hourlyRetention;
+    }
+
+    /**
+     * Add entries to both rollups. Call inside the transaction that writes them.
+     */
+    public void record(List<AuditLogEntity> entries) {
+        upsert("audit_stats_hourly", aggregate(entries, ChronoUnit.HOURS));
+        upsert("audit_stats_daily", aggregate(entries, ChronoUnit.DAYS));
+    }
+
+    /**
+     * Counts for one tenant.
+     */
+    public AuditStatsSummary summary(Long tenantId, Instant now) {
+        Instant lastDay = now.truncatedTo(ChronoUnit.HOURS).minus(23, ChronoUnit.HOURS);
+        Instant today = now.truncatedTo(ChronoUnit.DAYS);
+        Instant lastWeek = today.minus(6, ChronoUnit.DAYS);
+        Instant lastMonth = today.minus(29, ChronoUnit.DAYS);
+
+        Map<String, Long> byAction = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "SELECT action, SUM(entry_count) FROM audit_stats_daily WHERE bucket_start >= ? AND tenant_id = ?"
+                + " GROUP BY action ORDER BY 2 DESC",
+            (RowCallbackHandler) rs -> {
+                byAction.put(rs.getString(1), rs.getLong(2));
+            },
+            Timestamp.from(lastMonth), tenantId);
+
+        List<AuditStatsSummary.ActorCount> byActor = jdbcTemplate.query(
+            "SELECT actor, SUM(entry_count) FROM audit_stats_daily WHERE bucket_start >= ? AND tenant_id = ?"
+                + " AND actor IS NOT NULL GROUP BY actor ORDER BY 2 DESC LIMIT " + TOP_ACTORS,
+            (rs, rowNum) -> new AuditStatsSummary.ActorCount(rs.getString(1), rs.getLong(2)),
+            Timestamp.from(lastMonth), tenantId);
+
+        return new AuditStatsSummary(
+            sum("audit_stats_daily", Instant.EPOCH, tenantId),
+            sum("audit_stats_hourly", lastDay, tenantId),
+            sum("audit_stats_daily", lastWeek, tenantId),
+            sum("audit_stats_daily", lastMonth, tenantId),
+            byAction,
+            byActor
+        );
+    }
+
+    /**
+     * Drop hourly buckets past their retention; daily buckets are kept. Runs on one node of the cluster.
+     */
+    @Scheduled(cron = "${devkit.audit.stats.cleanup-cron:0 15 3 * * *}")
+    public void cleanup() {
+        schedulerLock.executeWithLock("audit-stats-cleanup", CLEANUP_LEASE, () -> {
+            Instant cutoff = Instant.now().minus(hourlyRetention);
+            int deleted = jdbcTemplate.update(
+                "DELETE FROM audit_stats_hourly WHERE bucket_start < ?", Timestamp.from(cutoff));
+            if (deleted > 0) {
+                logger.info("Deleted {} hourly audit statistics buckets before {}", deleted, cutoff);
+            }
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static Map<Key, long[]> aggregate(List<AuditLogEntity> entries, ChronoUnit unit) {
+        Map<Key, long[]> counts = new TreeMap<>(KEY_ORDER);
+        for (AuditLogEntity entry : entries) {
+            Key key = new Key(
+                entry.getCreatedAt().truncatedTo(unit),
+                entry.getTenantId(),
+                entry.getEntityType(),
+                entry.getAction(),
+                entry.getActor()
+            );
+            long[] count = counts.computeIfAbsent(key, k -> new long[2]);
+            count[0]++;
+            if (!Boolean.TRUE.equals(entry.getSuccess())) {
+                count[1]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Keys are upserted in a fixed order so concurrent writers cannot deadlock on each other's rows.
+     */
+    private void upsert(String table, Map<Key, long[]> counts) {
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[] {
+            Timestamp.from(key.bucketStart()), key.tenantId(), key.entityType(), key.action(), key.actor(),
+            count[0], count[1]
+        }));
+        jdbcTemplate.batchUpdate(String.format(UPSERT_SQL, table), rows);
+    }
+
+    private long sum(String table, Instant since, Long tenantId) {
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(entry_count), 0) FROM " + table + " WHERE bucket_start >= ? AND tenant_id = ?",
+            Long.class,
+            Timestamp.from(since), tenantId);
+        return Objects.requireNonNullElse(total, 0L);
+    }
+
+    private record Key(Instant bucketStart, Long tenantId, String entityType, String action, String actor) {}
+}
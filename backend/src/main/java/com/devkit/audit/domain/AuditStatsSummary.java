@@ -0,0 +1,20 @@
+package com.devkit.audit.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audit entry counts read from the rollups. {@code today} covers the last 24 hours, and
+ * {@code thisWeek} and {@code thisMonth} the last 7 and 30 UTC days including today.
+ * The breakdowns cover the last 30 days.
+ */
+public record AuditStatsSummary(
+    long total,
+    long today,
+    long thisWeek,
+    long thisMonth,
+    Map<String, Long> byAction,
+    List<ActorCount> byActor
+) {
+    public record ActorCount(String actor, long count) {}
+}
@@ -0,0 +1,63 @@
+package com.devkit.audit.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration for the audit log writer.
+ */
+@Component
+@ConfigurationProperties(prefix = "devkit.audit.writer")
+public class AuditWriterProperties {
+
+    private AuditDurability defaultDurability = AuditDurability.ASYNC;
+    private Set<String> syncActions = new LinkedHashSet<>(List.of("ROTATE", "ROTATE_FAILED", "EXPIRE", "DELETE", "GRANT", "REVOKE"));
+    private int bufferCapacity = 10000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    public AuditDurability getDefaultDurability() {
+        return defaultDurability;
+    }
+
+    public void setDefaultDurability(AuditDurability defaultDurability) {
+        this.defaultDurability = defaultDurability;
+    }
+
+    public Set<String> getSyncActions() {
+        return syncActions;
+    }
+
+    public void setSyncActions(Set<String> syncActions) {
+        this.syncActions = syncActions;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
@@ -1,18 +1,28 @@
 package com.devkit.audit.rest;
 
+import com.devkit.audit.domain.AuditExportFormat;
 import com.devkit.audit.domain.AuditLogEntity;
+import com.devkit.audit.domain.AuditLogFilter;
 import com.devkit.audit.domain.AuditService;
+import com.devkit.audit.domain.AuditStatsSummary;
+import com.devkit.shared.persistence.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for Audit logs.
@@ -22,6 +32,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Audit", description = "Audit log APIs")
 public class AuditController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final AuditService auditService;
 
     public AuditController(AuditService auditService) {
@@ -29,34 +41,32 @@ public class AuditController {
     }
 
     @GetMapping
-    @Operation(summary = "Get audit logs", description = "Returns audit logs with pagination")
+    @Operation(summary = "Get audit logs",
+        description = "Returns audit logs newest first; pass the previous page's nextCursor to continue")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Audit logs retrieved successfully")
     })
     ResponseEntity<AuditLogResponse> getLogs(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam Long tenantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "50") int limit) {
-        var paged = auditService.getLogs(page, limit);
-        List<AuditLog> logs = paged.getContent().stream()
-            .map(AuditLog::fromEntity)
-            .collect(Collectors.toList());
-
-        return ResponseEntity.ok(new AuditLogResponse(
-            logs,
-            paged.getTotalElements(),
-            page,
-            limit,
-            paged.getTotalPages()
-        ));
+        AuditLogFilter filter = new AuditLogFilter(tenantId, from, to, entityType, entityId, actor, action);
+        return ResponseEntity.ok(page(filter, cursor, limit));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get audit log by ID", description = "Returns a single audit log")
+    @Operation(summary = "Get audit log by ID", description = "Returns a single audit log of the tenant")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "404", description = "Audit log not found")
+        @ApiResponse(responseCode = "404", description = "Audit log not found in the tenant")
     })
-    ResponseEntity<AuditLog> getById(@PathVariable String id) {
-        AuditLogEntity log = auditService.getById(id);
+    ResponseEntity<AuditLog> getById(@PathVariable String id, @RequestParam Long tenantId) {
+        AuditLogEntity log = auditService.getById(tenantId, id);
         if (log == null) {
             return ResponseEntity.notFound().build();
         }
@@ -68,55 +78,113 @@ public class AuditController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Audit stats retrieved successfully")
     })
-    ResponseEntity<AuditStats> getStats() {
-        long total = auditService.getLogs(0, 1).getTotalElements();
-        long today = auditService.countSinceDays(1);
-        long thisWeek = auditService.countSinceDays(7);
-        long thisMonth = auditService.countSinceDays(30);
+    ResponseEntity<AuditStats> getStats(@RequestParam Long tenantId) {
+        AuditStatsSummary stats = auditService.getStats(tenantId);
+        List<UserStats> byUser = stats.byActor().stream()
+            .map(actor -> new UserStats(actor.actor(), actor.actor(), actor.count()))
+            .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new AuditStats(total, today, thisWeek, thisMonth, Map.of(), List.of()));
+        return ResponseEntity.ok(new AuditStats(
+            stats.total(),
+            stats.today(),
+            stats.thisWeek(),
+            stats.thisMonth(),
+            stats.byAction(),
+            byUser
+        ));
     }
 
-    @GetMapping(value = "/export", produces = MediaType.TEXT_PLAIN_VALUE)
-    @Operation(summary = "Export audit logs", description = "Exports audit logs as CSV or JSON")
+    @GetMapping("/export")
+    @Operation(summary = "Export audit logs",
+        description = "Streams audit logs as CSV or NDJSON, oldest first; gzip-compressed when the client accepts it")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Export generated")
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unknown format")
     })
-    ResponseEntity<String> export() {
-        return ResponseEntity.ok("");
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam Long tenantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String action,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        AuditExportFormat exportFormat;
+        try {
+            exportFormat = AuditExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        AuditLogFilter filter = new AuditLogFilter(tenantId, from, to, entityType, entityId, actor, action);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                auditService.export(filter, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                auditService.export(filter, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("audit-logs." + exportFormat.getExtension())
+                .build()
+                .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response.body(body);
     }
 
     @GetMapping("/entity/{entityType}/{entityId}")
-    @Operation(summary = "Get logs by entity", description = "Returns audit logs for a specific entity")
-    ResponseEntity<List<AuditLog>> getByEntity(
+    @Operation(summary = "Get logs by entity", description = "Returns audit logs for a specific entity, newest first")
+    ResponseEntity<AuditLogResponse> getByEntity(
             @PathVariable String entityType,
             @PathVariable String entityId,
+            @RequestParam Long tenantId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "50") int limit) {
-        List<AuditLog> logs = auditService.getByEntity(entityType, entityId).stream()
-            .limit(limit)
-            .map(AuditLog::fromEntity)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(logs);
+        AuditLogFilter filter = new AuditLogFilter(tenantId, null, null, entityType, entityId, null, null);
+        return ResponseEntity.ok(page(filter, cursor, limit));
     }
 
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Get logs by user", description = "Returns audit logs for a specific user")
-    ResponseEntity<List<AuditLog>> getByUser(
+    @Operation(summary = "Get logs by user", description = "Returns audit logs for a specific user, newest first")
+    ResponseEntity<AuditLogResponse> getByUser(
             @PathVariable String userId,
+            @RequestParam Long tenantId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "50") int limit) {
-        List<AuditLog> logs = auditService.getByUser(userId).stream()
-            .limit(limit)
+        AuditLogFilter filter = new AuditLogFilter(tenantId, null, null, null, null, userId, null);
+        return ResponseEntity.ok(page(filter, cursor, limit));
+    }
+
+    private AuditLogResponse page(AuditLogFilter filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<AuditLogEntity> entries = auditService.getLogs(filter, KeysetCursor.decode(cursor), pageSize);
+
+        String nextCursor = null;
+        if (entries.size() >= pageSize) {
+            AuditLogEntity last = entries.get(entries.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<AuditLog> logs = entries.stream()
             .map(AuditLog::fromEntity)
             .collect(Collectors.toList());
-        return ResponseEntity.ok(logs);
+        return new AuditLogResponse(logs, pageSize, nextCursor);
     }
 
     public record AuditLogResponse(
         List<AuditLog> logs,
-        long total,
-        int page,
         int limit,
-        int totalPages
+        String nextCursor
     ) {}
 
     public record AuditStats(
@@ -153,7 +221,7 @@ public class AuditController {
         static AuditLog fromEntity(AuditLogEntity entity) {
             return new AuditLog(
                 entity.getId(),
-                null,
+                entity.getTenantId() != null ? entity.getTenantId().toString() : null,
                 entity.getAction(),
                 entity.getEntityType(),
                 entity.getEntityId(),
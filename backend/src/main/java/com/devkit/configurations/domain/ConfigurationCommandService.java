@@ -1,15 +1,15 @@
 package com.devkit.configurations.domain;
 
-import com.devkit.applications.domain.ApplicationEncryptionKeyRepository;
+import com.devkit.applications.domain.ApplicationKeyring;
 import com.devkit.configurations.domain.events.ConfigurationCreatedEvent;
 import com.devkit.configurations.domain.events.ConfigurationDeletedEvent;
 import com.devkit.configurations.domain.events.ConfigurationUpdatedEvent;
 import com.devkit.configurations.domain.vo.ConfigurationId;
 import com.devkit.environments.domain.EnvironmentEntity;
 import com.devkit.environments.domain.EnvironmentRepository;
+import com.devkit.multitenancy.domain.TenantUsageService;
 import com.devkit.shared.domain.ResourceNotFoundException;
 import com.devkit.shared.domain.SpringEventPublisher;
-import com.devkit.shared.security.EncryptionService;
 import com.devkit.configurations.domain.ConfigurationVersionEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,20 +26,20 @@ public class ConfigurationCommandService {
     private final ConfigurationRepository configurationRepository;
     private final SpringEventPublisher eventPublisher;
     private final EnvironmentRepository environmentRepository;
-    private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
-    private final EncryptionService encryptionService;
+    private final ApplicationKeyring keyring;
+    private final TenantUsageService tenantUsageService;
 
     ConfigurationCommandService(
             ConfigurationRepository configurationRepository,
             SpringEventPublisher eventPublisher,
             EnvironmentRepository environmentRepository,
-            ApplicationEncryptionKeyRepository encryptionKeyRepository,
-            EncryptionService encryptionService) {
+            ApplicationKeyring keyring,
+            TenantUsageService tenantUsageService) {
         this.configurationRepository = configurationRepository;
         this.eventPublisher = eventPublisher;
         this.environmentRepository = environmentRepository;
-        this.encryptionKeyRepository = encryptionKeyRepository;
-        this.encryptionService = encryptionService;
+        this.keyring = keyring;
+        this.tenantUsageService = tenantUsageService;
     }
 
     public String createConfiguration(CreateConfigurationCmd cmd) {
@@ -70,28 +70,22 @@ public class ConfigurationCommandService {
         }
 
         configurationRepository.save(configuration);
+        tenantUsageService.adjustConfigurations(configuration.getTenantId(), 1);
         eventPublisher.publish(new ConfigurationCreatedEvent(
                 configuration.getId().id(),
                 configuration.getKey(),
-                configuration.getEnvironmentId()
+                configuration.getEnvironmentId(),
+                configuration.getTenantId()
         ));
 
         return configuration.getId().id();
     }
 
     private void encryptConfigurationValue(ConfigurationEntity configuration, String applicationId, String plaintextValue) {
-        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Application encryption key not found. Please create an encryption key for this application first."));
-
-        String applicationKey = encryptionService.unwrapApplicationKey(encryptionKey.getEncryptedKey());
-        String encryptedValue = encryptionService.encryptForApp(
-                plaintextValue,
-                applicationKey,
-                encryptionKey.getSalt()
-        );
+        var encryptedValue = keyring.encrypt(applicationId, plaintextValue);
 
-        configuration.setEncryptedValueDirectly(encryptedValue);
+        configuration.setEncryptedValueDirectly(encryptedValue.value());
+        configuration.setKeyVersionDirectly(encryptedValue.keyVersion());
         configuration.setValueDirectly(null);
     }
 
@@ -158,12 +152,15 @@ public class ConfigurationCommandService {
 
         String key = configuration.getKey();
         String environmentId = configuration.getEnvironmentId();
+        Long tenantId = configuration.getTenantId();
 
         configurationRepository.delete(configuration);
+        tenantUsageService.adjustConfigurations(tenantId, -1);
         eventPublisher.publish(new ConfigurationDeletedEvent(
                 configurationId,
                 key,
-                environmentId
+                environmentId,
+                tenantId
         ));
     }
 
@@ -35,6 +35,9 @@ public class ConfigurationEntity extends BaseEntity {
     @Column(name = "encrypted_value", columnDefinition = "TEXT")
     private String encryptedValue;
 
+    @Column(name = "key_version")
+    private Integer keyVersion;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false, length = 20)
     private ConfigType type;
@@ -125,6 +128,14 @@ public class ConfigurationEntity extends BaseEntity {
         this.encryptedValue = encryptedValue;
     }
 
+    /**
+     * Records the application key version the encrypted value was written with.
+     * Package-private for internal use by ConfigurationCommandService.
+     */
+    void setKeyVersionDirectly(Integer keyVersion) {
+        this.keyVersion = keyVersion;
+    }
+
     /**
      * Sets value directly without incrementing versionNumber.
      * Package-private for internal use by ConfigurationCommandService.
@@ -204,4 +215,8 @@ public class ConfigurationEntity extends BaseEntity {
     public String getEncryptedValue() {
         return encryptedValue;
     }
+
+    public Integer getKeyVersion() {
+        return keyVersion;
+    }
 }
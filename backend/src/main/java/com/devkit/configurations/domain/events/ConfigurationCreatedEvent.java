@@ -9,13 +9,16 @@ public record ConfigurationCreatedEvent(
     String configurationId,
     String key,
     String environmentId,
+    Long tenantId,
     LocalDateTime occurredOn
 ) {
     public ConfigurationCreatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
-    public ConfigurationCreatedEvent(String configurationId, String key, String environmentId) {
-        this(configurationId, key, environmentId, LocalDateTime.now());
+    public ConfigurationCreatedEvent(String configurationId, String key, String environmentId, Long tenantId) {
+        this(configurationId, key, environmentId, tenantId, LocalDateTime.now());
     }
 }
@@ -9,13 +9,16 @@ public record ConfigurationDeletedEvent(
     String configurationId,
     String key,
     String environmentId,
+    Long tenantId,
     LocalDateTime occurredOn
 ) {
     public ConfigurationDeletedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
-    public ConfigurationDeletedEvent(String configurationId, String key, String environmentId) {
-        this(configurationId, key, environmentId, LocalDateTime.now());
+    public ConfigurationDeletedEvent(String configurationId, String key, String environmentId, Long tenantId) {
+        this(configurationId, key, environmentId, tenantId, LocalDateTime.now());
     }
 }
@@ -13,7 +13,9 @@ public record ConfigurationUpdatedEvent(
     LocalDateTime occurredOn
 ) {
     public ConfigurationUpdatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public ConfigurationUpdatedEvent(String configurationId, String key, String environmentId, Integer newVersion) {
@@ -1,15 +1,21 @@
 package com.devkit.environments.domain;
 
 import com.devkit.environments.domain.vo.EnvironmentId;
+import com.devkit.shared.cache.SecondLevelCacheInvalidationListener;
 import com.devkit.shared.domain.AssertUtil;
 import com.devkit.shared.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents an Environment (e.g., development, staging, production).
  * Environments allow applications to have different configurations for different stages.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.environments")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Table(name = "environments", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"application_id", "name"})
 })
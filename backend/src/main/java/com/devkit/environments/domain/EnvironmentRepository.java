@@ -2,8 +2,11 @@ package com.devkit.environments.domain;
 
 import com.devkit.environments.domain.vo.EnvironmentId;
 import com.devkit.shared.domain.ResourceNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -14,6 +17,7 @@ import java.util.Optional;
  */
 public interface EnvironmentRepository extends JpaRepository<EnvironmentEntity, EnvironmentId> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT e FROM EnvironmentEntity e
             WHERE e.applicationId = :applicationId
@@ -21,6 +25,7 @@ public interface EnvironmentRepository extends JpaRepository<EnvironmentEntity,
             """)
     List<EnvironmentEntity> findByApplicationId(@Param("applicationId") String applicationId);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT e FROM EnvironmentEntity e
             WHERE e.applicationId = :applicationId
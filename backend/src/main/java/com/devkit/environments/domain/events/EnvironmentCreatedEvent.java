@@ -12,7 +12,9 @@ public record EnvironmentCreatedEvent(
     LocalDateTime occurredOn
 ) {
     public EnvironmentCreatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public EnvironmentCreatedEvent(String environmentId, String name, String applicationId) {
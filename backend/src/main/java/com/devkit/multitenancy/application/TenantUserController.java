@@ -2,12 +2,18 @@ package com.devkit.multitenancy.application;
 
 import com.devkit.multitenancy.domain.TenantEntity;
 import com.devkit.multitenancy.domain.TenantRepository;
+import com.devkit.multitenancy.domain.TenantService;
 import com.devkit.multitenancy.domain.TenantUserEntity;
 import com.devkit.multitenancy.domain.TenantUserRepository;
+import com.devkit.multitenancy.domain.events.TenantUserAddedEvent;
+import com.devkit.multitenancy.domain.events.TenantUserRemovedEvent;
+import com.devkit.rbac.domain.PermissionService;
 import com.devkit.rbac.dto.AddTenantUserDTO;
 import com.devkit.rbac.dto.TenantUserDTO;
 import com.devkit.rbac.dto.UpdateTenantUserDTO;
+import com.devkit.rbac.dto.UserPermissionsPageDTO;
 import com.devkit.shared.domain.ResourceNotFoundException;
+import com.devkit.shared.domain.SpringEventPublisher;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,12 +32,21 @@ public class TenantUserController {
 
     private final TenantUserRepository tenantUserRepository;
     private final TenantRepository tenantRepository;
+    private final TenantService tenantService;
+    private final SpringEventPublisher eventPublisher;
+    private final PermissionService permissionService;
 
     public TenantUserController(
             TenantUserRepository tenantUserRepository,
-            TenantRepository tenantRepository) {
+            TenantRepository tenantRepository,
+            TenantService tenantService,
+            SpringEventPublisher eventPublisher,
+            PermissionService permissionService) {
         this.tenantUserRepository = tenantUserRepository;
         this.tenantRepository = tenantRepository;
+        this.tenantService = tenantService;
+        this.eventPublisher = eventPublisher;
+        this.permissionService = permissionService;
     }
 
     /**
@@ -64,6 +79,19 @@ public class TenantUserController {
         return ResponseEntity.ok(userDTOs);
     }
 
+    /**
+     * Get users in a tenant with their effective roles and permissions.
+     * GET /api/v1/tenants/{tenantId}/users/permissions
+     */
+    @GetMapping("/permissions")
+    public ResponseEntity<UserPermissionsPageDTO> getUserPermissions(
+            @PathVariable Long tenantId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int limit) {
+        getTenant(tenantId);
+        return ResponseEntity.ok(permissionService.getEffectivePermissions(tenantId, page, limit));
+    }
+
     /**
      * Get a specific user in a tenant.
      * GET /api/v1/tenants/{tenantId}/users/{userId}
@@ -92,19 +120,10 @@ public class TenantUserController {
         TenantEntity tenant = getTenant(tenantId);
 
         // Check if user already exists in tenant
-        boolean userExists = tenant.getUsers().stream()
-            .anyMatch(u -> u.getUserId().equals(dto.userId()));
-
-        if (userExists) {
+        if (tenantUserRepository.existsByTenantIdAndUserId(tenantId, dto.userId())) {
             throw new IllegalArgumentException("User already exists in this tenant");
         }
 
-        // Check tenant limits
-        long currentCount = tenant.getUsers().stream()
-            .filter(TenantUserEntity::getIsActive)
-            .count();
-        // TODO: Verify against tenant's maxUsers limit
-
         TenantUserEntity user = TenantUserEntity.create(
             tenant,
             dto.userId(),
@@ -114,7 +133,9 @@ public class TenantUserController {
         );
         user.setRole(mapRole(dto.role()));
 
-        TenantUserEntity saved = tenantUserRepository.save(user);
+        // Checks the tenant's user limit
+        TenantUserEntity saved = tenantService.addUser(tenant, user);
+        eventPublisher.publish(new TenantUserAddedEvent(tenantId, saved.getUserId()));
         return ResponseEntity.status(HttpStatus.CREATED).body(mapToDTO(saved));
     }
 
@@ -232,7 +253,8 @@ public class TenantUserController {
             .orElseThrow(() -> new ResourceNotFoundException(
                 "User " + userId + " not found in tenant " + tenantId));
 
-        tenantUserRepository.delete(user);
+        tenantService.removeUser(tenant, user);
+        eventPublisher.publish(new TenantUserRemovedEvent(tenantId, userId));
         return ResponseEntity.noContent().build();
     }
 
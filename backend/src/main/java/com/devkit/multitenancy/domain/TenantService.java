@@ -3,6 +3,7 @@ package com.devkit.multitenancy.domain;
 import com.devkit.rbac.dto.CreateTenantDTO;
 import com.devkit.rbac.dto.TenantDTO;
 import com.devkit.rbac.dto.UpdateTenantDTO;
+import com.devkit.shared.domain.DomainException;
 import com.devkit.shared.domain.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,14 +26,17 @@ public class TenantService {
     private static final Logger logger = LoggerFactory.getLogger(TenantService.class);
 
     private final TenantRepository tenantRepository;
+    private final TenantUsageService tenantUsageService;
     private final TenantUserRepository tenantUserRepository;
 
     private static final int TRIAL_DAYS = 14;
 
     public TenantService(
             TenantRepository tenantRepository,
+            TenantUsageService tenantUsageService,
             TenantUserRepository tenantUserRepository) {
         this.tenantRepository = tenantRepository;
+        this.tenantUsageService = tenantUsageService;
         this.tenantUserRepository = tenantUserRepository;
     }
 
@@ -60,6 +65,7 @@ public class TenantService {
         tenant.setTrialEndsAt(Instant.now().plus(Duration.ofDays(TRIAL_DAYS)));
 
         TenantEntity saved = tenantRepository.save(tenant);
+        tenantUsageService.initialize(saved.getId());
 
         logger.info("Created tenant: {} with plan: {}", saved.getSlug(), saved.getPlan());
 
@@ -87,20 +93,14 @@ public class TenantService {
      * Get all tenants.
      */
     public List<TenantDTO> getAllTenants() {
-        return tenantRepository.findAll()
-            .stream()
-            .map(this::mapToDTO)
-            .collect(Collectors.toList());
+        return mapToDTOs(tenantRepository.findAll());
     }
 
     /**
      * Get all active tenants.
      */
     public List<TenantDTO> getActiveTenants() {
-        return tenantRepository.findByIsActiveTrue()
-            .stream()
-            .map(this::mapToDTO)
-            .collect(Collectors.toList());
+        return mapToDTOs(tenantRepository.findByIsActiveTrue());
     }
 
     /**
@@ -184,7 +184,27 @@ public class TenantService {
      */
     public TenantDTO getTenantStats(Long id) {
         TenantEntity tenant = getTenant(id);
-        return mapToDTOWithStats(tenant);
+        return mapToDTO(tenant, tenantUsageService.getUsage(tenant.getId()));
+    }
+
+    /**
+     * Add a user to a tenant that has room for another one.
+     * The user counter is checked and incremented in one statement, in the same transaction as the insert.
+     */
+    public TenantUserEntity addUser(TenantEntity tenant, TenantUserEntity user) {
+        if (!tenantUsageService.reserveUser(tenant.getId(), tenant.getMaxUsers())) {
+            throw new DomainException(
+                "Tenant " + tenant.getSlug() + " has reached its user limit of " + tenant.getMaxUsers());
+        }
+        return tenantUserRepository.save(user);
+    }
+
+    /**
+     * Remove a user from a tenant, uncounting it in the same transaction.
+     */
+    public void removeUser(TenantEntity tenant, TenantUserEntity user) {
+        tenantUserRepository.delete(user);
+        tenantUsageService.adjustUsers(tenant.getId(), -1);
     }
 
     // ==================== Helper Methods ====================
@@ -230,8 +250,20 @@ public class TenantService {
         };
     }
 
+    private List<TenantDTO> mapToDTOs(List<TenantEntity> tenants) {
+        Map<Long, TenantUsageEntity> usage = tenantUsageService.getUsage(
+            tenants.stream().map(TenantEntity::getId).toList());
+
+        return tenants.stream()
+            .map(tenant -> mapToDTO(tenant, usage.getOrDefault(tenant.getId(), TenantUsageEntity.empty(tenant.getId()))))
+            .collect(Collectors.toList());
+    }
+
     private TenantDTO mapToDTO(TenantEntity entity) {
-        Integer userCount = Math.toIntExact(tenantUserRepository.countByTenantId(entity.getId()));
+        return mapToDTO(entity, tenantUsageService.getUsage(entity.getId()));
+    }
+
+    private TenantDTO mapToDTO(TenantEntity entity, TenantUsageEntity usage) {
 
         return new TenantDTO(
             entity.getId(),
@@ -251,9 +283,9 @@ public class TenantService {
             entity.getMaxApplications(),
             entity.getMaxConfigsPerApplication(),
             entity.getMaxApplications() == Integer.MAX_VALUE,
-            userCount,
-            null, // applicationCount
-            null, // configCount
+            Math.toIntExact(usage.getUserCount()),
+            Math.toIntExact(usage.getApplicationCount()),
+            Math.toIntExact(usage.getConfigCount()),
             entity.getTrialEndsAt(),
             entity.getTrialEndsAt() != null ?
                 (int) Duration.between(Instant.now(), entity.getTrialEndsAt()).toDays() : null,
@@ -262,9 +294,4 @@ public class TenantService {
             entity.getSubscriptionRenewsAt()
         );
     }
-
-    private TenantDTO mapToDTOWithStats(TenantEntity entity) {
-        // TODO: Implement actual statistics gathering
-        return mapToDTO(entity);
-    }
 }
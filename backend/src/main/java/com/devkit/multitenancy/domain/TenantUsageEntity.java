@@ -0,0 +1,66 @@
+package com.devkit.multitenancy.domain;
+
+import com.devkit.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Usage counters for a tenant, maintained incrementally from domain events.
+ * Rows are only mutated through the atomic updates in {@link TenantUsageRepository}.
+ */
+@Entity
+@Table(name = "tenant_usage")
+public class TenantUsageEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Column(name = "user_count", nullable = false)
+    private Long userCount = 0L;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount = 0L;
+
+    @Column(name = "config_count", nullable = false)
+    private Long configCount = 0L;
+
+    @Column(name = "reconciled_at")
+    private Instant reconciledAt;
+
+    // Protected no-arg constructor for JPA
+    protected TenantUsageEntity() {}
+
+    private TenantUsageEntity(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Empty usage for a tenant that has no counters yet.
+     */
+    public static TenantUsageEntity empty(Long tenantId) {
+        return new TenantUsageEntity(tenantId);
+    }
+
+    // Getters
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public Long getUserCount() {
+        return userCount;
+    }
+
+    public Long getApplicationCount() {
+        return applicationCount;
+    }
+
+    public Long getConfigCount() {
+        return configCount;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+}
@@ -0,0 +1,89 @@
+package com.devkit.multitenancy.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for TenantUsageEntity.
+ */
+@Repository
+public interface TenantUsageRepository extends JpaRepository<TenantUsageEntity, Long> {
+
+    /**
+     * Atomically apply deltas to a tenant's counters, creating the row if needed.
+     * Nothing is written when the tenant does not exist.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tenant_usage"))
+    @Query(value = """
+        INSERT INTO tenant_usage (tenant_id, user_count, application_count, config_count, created_at, updated_at)
+        SELECT t.id, GREATEST(:userDelta, 0), GREATEST(:applicationDelta, 0), GREATEST(:configDelta, 0),
+               CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM tenants t
+        WHERE t.id = :tenantId
+        ON CONFLICT (tenant_id) DO UPDATE SET
+            user_count = GREATEST(tenant_usage.user_count + :userDelta, 0),
+            application_count = GREATEST(tenant_usage.application_count + :applicationDelta, 0),
+            config_count = GREATEST(tenant_usage.config_count + :configDelta, 0),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int applyDelta(
+        @Param("tenantId") Long tenantId,
+        @Param("userDelta") long userDelta,
+        @Param("applicationDelta") long applicationDelta,
+        @Param("configDelta") long configDelta);
+
+    /**
+     * Count one more user for a tenant if it is below {@code maxUsers}, creating the row if needed.
+     * Checks and increments in one statement, so concurrent adds cannot both take the last slot.
+     * Returns 0 when the tenant is at its limit or does not exist.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tenant_usage"))
+    @Query(value = """
+        INSERT INTO tenant_usage (tenant_id, user_count, created_at, updated_at)
+        SELECT t.id, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM tenants t
+        WHERE t.id = :tenantId
+        AND :maxUsers > 0
+        ON CONFLICT (tenant_id) DO UPDATE SET
+            user_count = tenant_usage.user_count + 1,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE tenant_usage.user_count < :maxUsers
+        """, nativeQuery = true)
+    int reserveUser(@Param("tenantId") Long tenantId, @Param("maxUsers") long maxUsers);
+
+    /**
+     * Create counter rows for tenants that do not have one yet.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tenant_usage"))
+    @Query(value = """
+        INSERT INTO tenant_usage (tenant_id, created_at, updated_at)
+        SELECT t.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM tenants t
+        ON CONFLICT (tenant_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissing();
+
+    /**
+     * Recompute all counters from the source tables.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tenant_usage"))
+    @Query(value = """
+        UPDATE tenant_usage u SET
+            user_count = (SELECT COUNT(*) FROM tenant_users tu WHERE tu.tenant_id = u.tenant_id),
+            application_count = (SELECT COUNT(*) FROM applications a WHERE a.tenant_id = u.tenant_id),
+            config_count = (SELECT COUNT(*) FROM configurations c WHERE c.tenant_id = u.tenant_id),
+            reconciled_at = CURRENT_TIMESTAMP,
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int reconcileAll();
+}
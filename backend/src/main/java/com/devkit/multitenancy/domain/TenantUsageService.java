@@ -0,0 +1,114 @@
+package com.devkit.multitenancy.domain;
+
+import com.devkit.shared.scheduling.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains per-tenant usage counters.
+ * Counters are adjusted in the caller's transaction as entities are created or removed,
+ * and periodically reconciled against the source tables to correct any drift.
+ * Writers call this service directly rather than through events: events published in a
+ * transaction go through the outbox, and limits must see the counts as of the commit.
+ */
+@Service
+@Transactional
+public class TenantUsageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantUsageService.class);
+
+    private static final Duration RECONCILE_LEASE = Duration.ofMinutes(30);
+
+    private final TenantUsageRepository tenantUsageRepository;
+    private final SchedulerLock schedulerLock;
+
+    public TenantUsageService(TenantUsageRepository tenantUsageRepository, SchedulerLock schedulerLock) {
+        this.tenantUsageRepository = tenantUsageRepository;
+        this.schedulerLock = schedulerLock;
+    }
+
+    /**
+     * Create zeroed counters for a newly created tenant.
+     */
+    public void initialize(Long tenantId) {
+        applyDelta(tenantId, 0, 0, 0);
+    }
+
+    /**
+     * Adjust the user counter of a tenant.
+     */
+    public void adjustUsers(Long tenantId, long delta) {
+        applyDelta(tenantId, delta, 0, 0);
+    }
+
+    /**
+     * Count one more user for a tenant, unless that would exceed {@code maxUsers}.
+     * @return whether the user was counted
+     */
+    public boolean reserveUser(Long tenantId, long maxUsers) {
+        return tenantUsageRepository.reserveUser(tenantId, maxUsers) > 0;
+    }
+
+    /**
+     * Adjust the application counter of a tenant.
+     */
+    public void adjustApplications(Long tenantId, long delta) {
+        applyDelta(tenantId, 0, delta, 0);
+    }
+
+    /**
+     * Adjust the configuration counter of a tenant.
+     */
+    public void adjustConfigurations(Long tenantId, long delta) {
+        applyDelta(tenantId, 0, 0, delta);
+    }
+
+    /**
+     * Get the current usage of a tenant.
+     */
+    @Transactional(readOnly = true)
+    public TenantUsageEntity getUsage(Long tenantId) {
+        return tenantUsageRepository.findById(tenantId)
+            .orElseGet(() -> TenantUsageEntity.empty(tenantId));
+    }
+
+    /**
+     * Get the current usage of several tenants in a single query.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TenantUsageEntity> getUsage(Collection<Long> tenantIds) {
+        return tenantUsageRepository.findAllById(tenantIds)
+            .stream()
+            .collect(Collectors.toMap(TenantUsageEntity::getTenantId, Function.identity()));
+    }
+
+    /**
+     * Recompute every tenant's counters from the source tables. Runs on one node of the cluster.
+     */
+    @Scheduled(cron = "${devkit.multitenancy.usage.reconcile-cron:0 15 * * * *}")
+    public void reconcile() {
+        schedulerLock.executeWithLock("tenant-usage-reconcile", RECONCILE_LEASE, () -> {
+            int created = tenantUsageRepository.insertMissing();
+            int reconciled = tenantUsageRepository.reconcileAll();
+            logger.info("Reconciled usage counters for {} tenants ({} created)", reconciled, created);
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void applyDelta(Long tenantId, long userDelta, long applicationDelta, long configDelta) {
+        if (tenantId == null) {
+            return;
+        }
+        tenantUsageRepository.applyDelta(tenantId, userDelta, applicationDelta, configDelta);
+    }
+}
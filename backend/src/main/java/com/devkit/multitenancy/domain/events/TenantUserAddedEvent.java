@@ -0,0 +1,22 @@
+package com.devkit.multitenancy.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a user is added to a tenant.
+ */
+public record TenantUserAddedEvent(
+    Long tenantId,
+    String userId,
+    LocalDateTime occurredOn
+) {
+    public TenantUserAddedEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public TenantUserAddedEvent(Long tenantId, String userId) {
+        this(tenantId, userId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,22 @@
+package com.devkit.multitenancy.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a user is removed from a tenant.
+ */
+public record TenantUserRemovedEvent(
+    Long tenantId,
+    String userId,
+    LocalDateTime occurredOn
+) {
+    public TenantUserRemovedEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public TenantUserRemovedEvent(Long tenantId, String userId) {
+        this(tenantId, userId, LocalDateTime.now());
+    }
+}
@@ -178,7 +178,8 @@ public class RoleController {
             dto.userId(),
             dto.roleId(),
             dto.grantedBy(),
-            dto.reason()
+            dto.reason(),
+            dto.expiresAt()
         );
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
@@ -211,6 +212,18 @@ public class RoleController {
         return ResponseEntity.ok(roleDTOs);
     }
 
+    /**
+     * Get users in a tenant with their effective roles and permissions.
+     * GET /api/v1/rbac/user-permissions/{tenantId}
+     */
+    @GetMapping("/user-permissions/{tenantId}")
+    public ResponseEntity<UserPermissionsPageDTO> getEffectivePermissions(
+            @PathVariable Long tenantId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(permissionService.getEffectivePermissions(tenantId, page, limit));
+    }
+
     // ==================== Permission Checking ====================
 
     /**
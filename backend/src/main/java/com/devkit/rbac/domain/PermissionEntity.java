@@ -1,8 +1,11 @@
 package com.devkit.rbac.domain;
 
+import com.devkit.shared.cache.SecondLevelCacheInvalidationListener;
 import com.devkit.shared.domain.AssertUtil;
 import com.devkit.shared.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -12,6 +15,9 @@ import java.util.Set;
  * Permissions follow the pattern: resource:action (e.g., config:read, config:write)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.permissions")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Table(name = "permissions")
 public class PermissionEntity extends BaseEntity {
 
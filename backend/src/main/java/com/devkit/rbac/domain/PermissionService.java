@@ -1,11 +1,17 @@
 package com.devkit.rbac.domain;
 
+import com.devkit.rbac.dto.UserPermissionsDTO;
+import com.devkit.rbac.dto.UserPermissionsPageDTO;
 import com.devkit.shared.domain.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,14 +28,20 @@ public class PermissionService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final UserRoleRepository userRoleRepository;
+    private final UserEffectivePermissionRepository effectivePermissionRepository;
+    private final RoleGrantExpiryScheduler grantExpiryScheduler;
 
     public PermissionService(
             RoleRepository roleRepository,
             PermissionRepository permissionRepository,
-            UserRoleRepository userRoleRepository) {
+            UserRoleRepository userRoleRepository,
+            UserEffectivePermissionRepository effectivePermissionRepository,
+            RoleGrantExpiryScheduler grantExpiryScheduler) {
         this.roleRepository = roleRepository;
         this.permissionRepository = permissionRepository;
         this.userRoleRepository = userRoleRepository;
+        this.effectivePermissionRepository = effectivePermissionRepository;
+        this.grantExpiryScheduler = grantExpiryScheduler;
     }
 
     // ==================== Permission Checking ====================
@@ -37,23 +49,18 @@ public class PermissionService {
     /**
      * Check if a user has a specific permission in a tenant.
      */
+    @Transactional(readOnly = true)
     public boolean hasPermission(Long tenantId, String userId, String resource, String action) {
-        List<UserRoleEntity> userRoles = userRoleRepository.findByTenantIdAndUserId(tenantId, userId);
-
-        for (UserRoleEntity userRole : userRoles) {
-            if (!userRole.isValid()) {
-                continue;
-            }
+        boolean granted = effectivePermissionRepository.hasPermission(
+            tenantId, userId, resource, action, Instant.now()
+        );
 
-            RoleEntity role = userRole.getRole();
-            if (role.hasPermission(resource, action)) {
-                logger.debug("User {} has permission {}:{}", userId, resource, action);
-                return true;
-            }
+        if (granted) {
+            logger.debug("User {} has permission {}:{}", userId, resource, action);
+        } else {
+            logger.debug("User {} does NOT have permission {}:{}", userId, resource, action);
         }
-
-        logger.debug("User {} does NOT have permission {}:{}", userId, resource, action);
-        return false;
+        return granted;
     }
 
     /**
@@ -75,26 +82,47 @@ public class PermissionService {
     /**
      * Get all permissions for a user in a tenant.
      */
+    @Transactional(readOnly = true)
     public Set<String> getUserPermissions(Long tenantId, String userId) {
-        List<UserRoleEntity> userRoles = userRoleRepository.findByTenantIdAndUserId(tenantId, userId);
-
-        return userRoles.stream()
-            .filter(UserRoleEntity::isValid)
-            .flatMap(ur -> ur.getRole().getPermissions().stream())
-            .map(PermissionEntity::getName)
-            .collect(Collectors.toSet());
+        return effectivePermissionRepository.findPermissionNames(tenantId, userId, Instant.now());
     }
 
     /**
      * Get all roles for a user in a tenant.
      */
+    @Transactional(readOnly = true)
     public List<RoleEntity> getUserRoles(Long tenantId, String userId) {
-        List<UserRoleEntity> userRoles = userRoleRepository.findByTenantIdAndUserId(tenantId, userId);
+        return roleRepository.findValidRolesForUser(tenantId, userId, Instant.now());
+    }
 
-        return userRoles.stream()
-            .filter(UserRoleEntity::isValid)
-            .map(UserRoleEntity::getRole)
+    /**
+     * Get a page of users in a tenant with their effective roles and permissions.
+     */
+    @Transactional(readOnly = true)
+    public UserPermissionsPageDTO getEffectivePermissions(Long tenantId, int page, int limit) {
+        Page<UserEffectivePermissionRepository.UserPermissionsView> paged =
+            effectivePermissionRepository.findUserPermissions(
+                tenantId, Instant.now(), PageRequest.of(page, Math.max(1, limit)));
+
+        List<UserPermissionsDTO> users = paged.getContent().stream()
+            .map(view -> {
+                List<String> permissions = splitAggregate(view.getPermissions());
+                return new UserPermissionsDTO(
+                    view.getUserId(),
+                    splitAggregate(view.getRoles()),
+                    permissions,
+                    permissions.size()
+                );
+            })
             .collect(Collectors.toList());
+
+        return new UserPermissionsPageDTO(
+            users,
+            paged.getTotalElements(),
+            page,
+            limit,
+            paged.getTotalPages()
+        );
     }
 
     // ==================== Role Management ====================
@@ -103,6 +131,23 @@ public class PermissionService {
      * Grant a role to a user.
      */
     public void grantRole(Long tenantId, String userId, Long roleId, String grantedBy, String reason) {
+        grantRole(tenantId, userId, roleId, grantedBy, reason, null);
+    }
+
+    /**
+     * Grant a role to a user until the given instant (or permanently if null).
+     */
+    public void grantRole(
+            Long tenantId,
+            String userId,
+            Long roleId,
+            String grantedBy,
+            String reason,
+            Instant expiresAt) {
+        if (expiresAt != null && !expiresAt.isAfter(Instant.now())) {
+            throw new IllegalArgumentException("Role grant expiry must be in the future");
+        }
+
         RoleEntity role = getRole(roleId);
 
         // Check if user already has this role
@@ -121,8 +166,11 @@ public class PermissionService {
             grantedBy
         );
         userRole.setReason(reason);
+        userRole.setExpiresAt(expiresAt);
 
-        userRoleRepository.save(userRole);
+        userRoleRepository.saveAndFlush(userRole);
+        effectivePermissionRepository.insertForUserRole(userRole.getId());
+        grantExpiryScheduler.track(userRole.getId(), expiresAt);
 
         logger.info("Granted role {} to user {} in tenant {}", role.getName(), userId, tenantId);
     }
@@ -140,6 +188,7 @@ public class PermissionService {
         }
 
         userRoleRepository.deleteAll(userRoles);
+        userRoles.forEach(userRole -> grantExpiryScheduler.untrack(userRole.getId()));
 
         logger.info("Revoked role {} from user {} in tenant {}", roleId, userId, tenantId);
     }
@@ -198,7 +247,8 @@ public class PermissionService {
             }
         }
 
-        roleRepository.save(role);
+        roleRepository.saveAndFlush(role);
+        refreshEffectivePermissions(roleId);
 
         logger.info("Updated role {}", roleId);
     }
@@ -354,6 +404,20 @@ public class PermissionService {
         );
     }
 
+    // ==================== Helper Methods ====================
+
+    private void refreshEffectivePermissions(Long roleId) {
+        effectivePermissionRepository.deleteByRoleId(roleId);
+        effectivePermissionRepository.insertForRole(roleId);
+    }
+
+    private List<String> splitAggregate(String value) {
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(value.split(","));
+    }
+
     // ==================== Query Methods ====================
 
     public RoleEntity getRole(Long roleId) {
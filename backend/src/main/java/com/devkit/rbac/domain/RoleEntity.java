@@ -1,8 +1,11 @@
 package com.devkit.rbac.domain;
 
+import com.devkit.shared.cache.SecondLevelCacheInvalidationListener;
 import com.devkit.shared.domain.AssertUtil;
 import com.devkit.shared.domain.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -12,6 +15,9 @@ import java.util.Set;
  * Roles are assigned to users within a tenant context.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.roles")
+@EntityListeners(SecondLevelCacheInvalidationListener.class)
 @Table(name = "roles")
 public class RoleEntity extends BaseEntity {
 
@@ -34,6 +40,7 @@ public class RoleEntity extends BaseEntity {
 
     // Associations
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "devkit.role-permissions")
     @JoinTable(
         name = "role_permissions",
         joinColumns = @JoinColumn(name = "role_id"),
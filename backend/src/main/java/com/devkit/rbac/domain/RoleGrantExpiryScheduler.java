@@ -0,0 +1,165 @@
+package com.devkit.rbac.domain;
+
+import com.devkit.audit.domain.AuditService;
+import com.devkit.rbac.domain.events.UserRoleExpiredEvent;
+import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.shared.scheduling.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Revokes time-bound role grants as soon as they expire.
+ * Grants expiring within the look-ahead horizon are held in a timing wheel, which is
+ * refilled from the database periodically and fed directly by new grants. Expired
+ * grants are deleted (cascading to the effective permissions read model) and audited.
+ */
+@Component
+public class RoleGrantExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleGrantExpiryScheduler.class);
+
+    private final UserRoleRepository userRoleRepository;
+    private final AuditService auditService;
+    private final SpringEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final ExecutorService expiryExecutor;
+    private final TimingWheel<Long> wheel;
+
+    public RoleGrantExpiryScheduler(
+            UserRoleRepository userRoleRepository,
+            AuditService auditService,
+            SpringEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${devkit.rbac.grant-expiry.horizon:PT1H}") Duration horizon,
+            @Value("${devkit.rbac.grant-expiry.tick:PT1S}") Duration tick) {
+        this.userRoleRepository = userRoleRepository;
+        this.auditService = auditService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.horizon = horizon;
+        this.expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "role-grant-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int wheelSize = (int) Math.min(4096, Math.max(64, horizon.toMillis() / Math.max(1, tick.toMillis())));
+        this.wheel = new TimingWheel<>("role-grant-expiry", tick, wheelSize, expiryExecutor, this::expire);
+        this.wheel.start();
+    }
+
+    /**
+     * Track a grant so it is revoked when it expires. Inside a transaction this happens after
+     * commit, so a grant that is already due is not looked up before its row is visible.
+     */
+    public void track(Long userRoleId, Instant expiresAt) {
+        afterCommit(() -> schedule(userRoleId, expiresAt));
+    }
+
+    /**
+     * Stop tracking a grant, e.g. after it was revoked manually. Inside a transaction this
+     * happens after commit, so a rolled back revocation still expires on time.
+     */
+    public void untrack(Long userRoleId) {
+        afterCommit(() -> wheel.cancel(userRoleId));
+    }
+
+    /**
+     * Load grants expiring within the horizon, including ones that already expired.
+     */
+    @Scheduled(fixedDelayString = "${devkit.rbac.grant-expiry.reload-interval:PT15M}")
+    public void reload() {
+        List<UserRoleEntity> expiring = userRoleRepository.findByExpiresAtBefore(Instant.now().plus(horizon));
+        expiring.forEach(grant -> wheel.schedule(grant.getId(), grant.getExpiresAt()));
+
+        if (!expiring.isEmpty()) {
+            logger.info("Scheduled {} role grants for expiry ({} tracked)", expiring.size(), wheel.size());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.stop();
+        expiryExecutor.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void schedule(Long userRoleId, Instant expiresAt) {
+        if (expiresAt == null) {
+            wheel.cancel(userRoleId);
+            return;
+        }
+        if (expiresAt.isBefore(Instant.now().plus(horizon))) {
+            wheel.schedule(userRoleId, expiresAt);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void expire(Long userRoleId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            UserRoleEntity grant = userRoleRepository.findById(userRoleId).orElse(null);
+            if (grant == null || grant.getExpiresAt() == null) {
+                return;
+            }
+
+            Instant now = Instant.now();
+            if (grant.getExpiresAt().isAfter(now)) {
+                // Expiry was extended after the grant was scheduled
+                track(userRoleId, grant.getExpiresAt());
+                return;
+            }
+
+            if (userRoleRepository.deleteExpired(userRoleId, now) == 0) {
+                // Already revoked, possibly by another node
+                return;
+            }
+
+            eventPublisher.publish(new UserRoleExpiredEvent(
+                userRoleId,
+                grant.getTenantId(),
+                grant.getUserId(),
+                grant.getRole().getId()
+            ));
+            auditService.log(
+                grant.getTenantId(),
+                "USER_ROLE",
+                userRoleId.toString(),
+                "EXPIRE",
+                "system",
+                null,
+                null,
+                true,
+                null
+            );
+
+            logger.info("Expired role {} for user {} in tenant {}",
+                grant.getRole().getId(), grant.getUserId(), grant.getTenantId());
+        });
+    }
+}
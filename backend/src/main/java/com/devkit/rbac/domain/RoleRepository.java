@@ -1,11 +1,13 @@
 package com.devkit.rbac.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,14 +22,23 @@ public interface RoleRepository extends JpaRepository<RoleEntity, Long>, JpaSpec
      */
     Optional<RoleEntity> findByName(String name);
 
+    /**
+     * Find all roles with their permissions.
+     */
+    @Override
+    @EntityGraph(attributePaths = "permissions")
+    List<RoleEntity> findAll();
+
     /**
      * Find all system roles.
      */
+    @EntityGraph(attributePaths = "permissions")
     List<RoleEntity> findByIsSystemRoleTrue();
 
     /**
      * Find all custom roles for a specific tenant.
      */
+    @EntityGraph(attributePaths = "permissions")
     List<RoleEntity> findByTenantId(Long tenantId);
 
     /**
@@ -45,4 +56,22 @@ public interface RoleRepository extends JpaRepository<RoleEntity, Long>, JpaSpec
      */
     @Query("SELECT r FROM RoleEntity r WHERE r.tenantId = :tenantId OR r.isSystemRole = true")
     List<RoleEntity> findAllRolesForTenant(@Param("tenantId") Long tenantId);
+
+    /**
+     * Find the roles a user holds through unexpired grants, with their permissions.
+     */
+    @Query("""
+        SELECT DISTINCT r FROM RoleEntity r
+        LEFT JOIN FETCH r.permissions
+        WHERE r.id IN (
+            SELECT ur.role.id FROM UserRoleEntity ur
+            WHERE ur.tenantId = :tenantId
+              AND ur.userId = :userId
+              AND (ur.expiresAt IS NULL OR ur.expiresAt > :now)
+        )
+        """)
+    List<RoleEntity> findValidRolesForUser(
+        @Param("tenantId") Long tenantId,
+        @Param("userId") String userId,
+        @Param("now") Instant now);
 }
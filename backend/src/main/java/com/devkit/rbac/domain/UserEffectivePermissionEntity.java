@@ -0,0 +1,98 @@
+package com.devkit.rbac.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Read model row linking a user to a permission through one of their role grants.
+ * Rows are written only by {@link UserEffectivePermissionRepository}.
+ */
+@Entity
+@Immutable
+@Table(name = "user_effective_permissions")
+public class UserEffectivePermissionEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "user_role_id", nullable = false)
+    private Long userRoleId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String userId;
+
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+
+    @Column(name = "role_name", nullable = false, length = 255)
+    private String roleName;
+
+    @Column(name = "permission_id", nullable = false)
+    private Long permissionId;
+
+    @Column(name = "permission_name", nullable = false, length = 255)
+    private String permissionName;
+
+    @Column(name = "resource", nullable = false, length = 100)
+    private String resource;
+
+    @Column(name = "action", nullable = false, length = 50)
+    private String action;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    // Protected no-arg constructor for JPA
+    protected UserEffectivePermissionEntity() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserRoleId() {
+        return userRoleId;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getRoleId() {
+        return roleId;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public Long getPermissionId() {
+        return permissionId;
+    }
+
+    public String getPermissionName() {
+        return permissionName;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,140 @@
+package com.devkit.rbac.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Repository for the user effective permissions read model.
+ */
+@Repository
+public interface UserEffectivePermissionRepository extends JpaRepository<UserEffectivePermissionEntity, Long> {
+
+    /**
+     * Materialize the permissions granted through a single user role.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "user_effective_permissions"))
+    @Query(value = """
+        INSERT INTO user_effective_permissions (
+            user_role_id, tenant_id, user_id, role_id, role_name,
+            permission_id, permission_name, resource, action, expires_at
+        )
+        SELECT ur.id, ur.tenant_id, ur.user_id, r.id, r.name,
+               p.id, p.name, p.resource, p.action, ur.expires_at
+        FROM user_roles ur
+        JOIN roles r ON r.id = ur.role_id
+        JOIN role_permissions rp ON rp.role_id = r.id
+        JOIN permissions p ON p.id = rp.permission_id
+        WHERE ur.id = :userRoleId
+        ON CONFLICT (user_role_id, permission_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertForUserRole(@Param("userRoleId") Long userRoleId);
+
+    /**
+     * Remove all rows derived from a role.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "user_effective_permissions"))
+    @Query(value = "DELETE FROM user_effective_permissions WHERE role_id = :roleId", nativeQuery = true)
+    int deleteByRoleId(@Param("roleId") Long roleId);
+
+    /**
+     * Materialize the permissions of every grant of a role.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "user_effective_permissions"))
+    @Query(value = """
+        INSERT INTO user_effective_permissions (
+            user_role_id, tenant_id, user_id, role_id, role_name,
+            permission_id, permission_name, resource, action, expires_at
+        )
+        SELECT ur.id, ur.tenant_id, ur.user_id, r.id, r.name,
+               p.id, p.name, p.resource, p.action, ur.expires_at
+        FROM user_roles ur
+        JOIN roles r ON r.id = ur.role_id
+        JOIN role_permissions rp ON rp.role_id = r.id
+        JOIN permissions p ON p.id = rp.permission_id
+        WHERE r.id = :roleId
+        ON CONFLICT (user_role_id, permission_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertForRole(@Param("roleId") Long roleId);
+
+    /**
+     * Check whether a user holds a permission through any unexpired grant.
+     */
+    @Query("""
+        SELECT CASE WHEN COUNT(uep) > 0 THEN true ELSE false END
+        FROM UserEffectivePermissionEntity uep
+        WHERE uep.tenantId = :tenantId
+          AND uep.userId = :userId
+          AND uep.resource = :resource
+          AND uep.action = :action
+          AND (uep.expiresAt IS NULL OR uep.expiresAt > :now)
+        """)
+    boolean hasPermission(
+        @Param("tenantId") Long tenantId,
+        @Param("userId") String userId,
+        @Param("resource") String resource,
+        @Param("action") String action,
+        @Param("now") Instant now);
+
+    /**
+     * Find the names of all permissions a user holds through unexpired grants.
+     */
+    @Query("""
+        SELECT DISTINCT uep.permissionName
+        FROM UserEffectivePermissionEntity uep
+        WHERE uep.tenantId = :tenantId
+          AND uep.userId = :userId
+          AND (uep.expiresAt IS NULL OR uep.expiresAt > :now)
+        """)
+    Set<String> findPermissionNames(
+        @Param("tenantId") Long tenantId,
+        @Param("userId") String userId,
+        @Param("now") Instant now);
+
+    /**
+     * Page through the users of a tenant with their roles and permissions aggregated per user.
+     */
+    @Query(value = """
+        SELECT uep.user_id AS userId,
+               STRING_AGG(DISTINCT uep.role_name, ',' ORDER BY uep.role_name) AS roles,
+               STRING_AGG(DISTINCT uep.permission_name, ',' ORDER BY uep.permission_name) AS permissions
+        FROM user_effective_permissions uep
+        WHERE uep.tenant_id = :tenantId
+          AND (uep.expires_at IS NULL OR uep.expires_at > :now)
+        GROUP BY uep.user_id
+        ORDER BY uep.user_id
+        """,
+        countQuery = """
+        SELECT COUNT(DISTINCT uep.user_id)
+        FROM user_effective_permissions uep
+        WHERE uep.tenant_id = :tenantId
+          AND (uep.expires_at IS NULL OR uep.expires_at > :now)
+        """,
+        nativeQuery = true)
+    Page<UserPermissionsView> findUserPermissions(
+        @Param("tenantId") Long tenantId,
+        @Param("now") Instant now,
+        Pageable pageable);
+
+    /**
+     * Aggregated projection of a user's effective permissions.
+     */
+    interface UserPermissionsView {
+        String getUserId();
+        String getRoles();
+        String getPermissions();
+    }
+}
@@ -2,6 +2,7 @@ package com.devkit.rbac.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -60,4 +61,12 @@ public interface UserRoleRepository extends JpaRepository<UserRoleEntity, Long>,
      * Check if a user has a specific role in a tenant.
      */
     boolean existsByTenantIdAndUserIdAndRoleId(Long tenantId, String userId, Long roleId);
+
+    /**
+     * Delete a grant if it has expired.
+     * @return the number of deleted grants (0 if it was already revoked or extended)
+     */
+    @Modifying
+    @Query("DELETE FROM UserRoleEntity ur WHERE ur.id = :id AND ur.expiresAt <= :now")
+    int deleteExpired(@Param("id") Long id, @Param("now") Instant now);
 }
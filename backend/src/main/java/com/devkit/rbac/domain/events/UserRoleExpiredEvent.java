@@ -0,0 +1,24 @@
+package com.devkit.rbac.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a time-bound role grant expires and is revoked.
+ */
+public record UserRoleExpiredEvent(
+    Long userRoleId,
+    Long tenantId,
+    String userId,
+    Long roleId,
+    LocalDateTime occurredOn
+) {
+    public UserRoleExpiredEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public UserRoleExpiredEvent(Long userRoleId, Long tenantId, String userId, Long roleId) {
+        this(userRoleId, tenantId, userId, roleId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,19 @@
+package com.devkit.rbac.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a user's effective roles and permissions within a tenant.
+ */
+public record UserPermissionsDTO(
+
+    String userId,
+
+    List<String> roles,
+
+    List<String> permissions,
+
+    Integer permissionCount
+
+) {
+}
@@ -0,0 +1,21 @@
+package com.devkit.rbac.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a page of users with their effective permissions.
+ */
+public record UserPermissionsPageDTO(
+
+    List<UserPermissionsDTO> users,
+
+    long total,
+
+    int page,
+
+    int limit,
+
+    int totalPages
+
+) {
+}
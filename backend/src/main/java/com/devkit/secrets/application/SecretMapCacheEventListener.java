@@ -0,0 +1,57 @@
+package com.devkit.secrets.application;
+
+import com.devkit.applications.domain.events.ApplicationKeyReencryptedEvent;
+import com.devkit.secrets.domain.SecretMapCache;
+import com.devkit.secrets.domain.events.SecretCreatedEvent;
+import com.devkit.secrets.domain.events.SecretDeactivatedEvent;
+import com.devkit.secrets.domain.events.SecretDeletedEvent;
+import com.devkit.secrets.domain.events.SecretRotatedEvent;
+import com.devkit.secrets.domain.events.SecretUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evicts cached secret maps whenever a secret value, or the set of active secrets, changes.
+ */
+@Service
+public class SecretMapCacheEventListener {
+
+    private final SecretMapCache secretMapCache;
+
+    public SecretMapCacheEventListener(SecretMapCache secretMapCache) {
+        this.secretMapCache = secretMapCache;
+    }
+
+    @EventListener
+    public void onSecretCreated(SecretCreatedEvent event) {
+        secretMapCache.evict(event.applicationId());
+    }
+
+    @EventListener
+    public void onSecretUpdated(SecretUpdatedEvent event) {
+        secretMapCache.evict(event.applicationId());
+        if (event.previousApplicationId() != null && !event.previousApplicationId().equals(event.applicationId())) {
+            secretMapCache.evict(event.previousApplicationId());
+        }
+    }
+
+    @EventListener
+    public void onSecretRotated(SecretRotatedEvent event) {
+        secretMapCache.evict(event.applicationId());
+    }
+
+    @EventListener
+    public void onSecretDeactivated(SecretDeactivatedEvent event) {
+        secretMapCache.evict(event.applicationId());
+    }
+
+    @EventListener
+    public void onSecretDeleted(SecretDeletedEvent event) {
+        secretMapCache.evict(event.applicationId());
+    }
+
+    @EventListener
+    public void onApplicationKeyReencrypted(ApplicationKeyReencryptedEvent event) {
+        secretMapCache.evict(event.applicationId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.devkit.secrets.application;
 
+import com.devkit.applications.domain.ApplicationRepository;
 import com.devkit.audit.domain.AuditService;
 import com.devkit.secrets.domain.events.SecretRotatedEvent;
 import com.devkit.secrets.domain.events.SecretRotationFailedEvent;
@@ -22,16 +23,19 @@ public class SecretRotationEventListener {
     private final NotificationService notificationService;
     private final SecretRotationNotificationProperties notificationProperties;
     private final AuditService auditService;
+    private final ApplicationRepository applicationRepository;
 
     public SecretRotationEventListener(
             WebhookDeliveryService webhookDeliveryService,
             NotificationService notificationService,
             SecretRotationNotificationProperties notificationProperties,
-            AuditService auditService) {
+            AuditService auditService,
+            ApplicationRepository applicationRepository) {
         this.webhookDeliveryService = webhookDeliveryService;
         this.notificationService = notificationService;
         this.notificationProperties = notificationProperties;
         this.auditService = auditService;
+        this.applicationRepository = applicationRepository;
     }
 
     @EventListener
@@ -60,6 +64,7 @@ public class SecretRotationEventListener {
         }
 
         auditService.log(
+            tenantOf(event.applicationId()),
             "SECRET",
             event.secretId(),
             "ROTATE",
@@ -99,6 +104,7 @@ public class SecretRotationEventListener {
         }
 
         auditService.log(
+            tenantOf(event.applicationId()),
             "SECRET",
             event.secretId(),
             "ROTATE_FAILED",
@@ -109,4 +115,10 @@ public class SecretRotationEventListener {
             event.errorMessage()
         );
     }
+
+    // ==================== Helper Methods ====================
+
+    private Long tenantOf(String applicationId) {
+        return applicationRepository.findTenantIdById(applicationId).orElse(null);
+    }
 }
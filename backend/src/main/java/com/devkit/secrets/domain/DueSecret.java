@@ -0,0 +1,7 @@
+package com.devkit.secrets.domain;
+
+/**
+ * A secret due for automatic rotation, as listed by a rotation run.
+ */
+public record DueSecret(String id, String applicationId) {
+}
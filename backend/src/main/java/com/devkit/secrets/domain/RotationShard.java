@@ -0,0 +1,21 @@
+package com.devkit.secrets.domain;
+
+/**
+ * The applications covered by a rotation run: those whose id hashes to {@code index} modulo {@code count}.
+ * Splitting rotation into shards lets several nodes rotate different applications at the same time.
+ */
+public record RotationShard(int index, int count) {
+
+    public static final RotationShard ALL = new RotationShard(0, 1);
+
+    public RotationShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid rotation shard " + index + " of " + count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return count == 1 ? "all applications" : "shard " + index + "/" + count;
+    }
+}
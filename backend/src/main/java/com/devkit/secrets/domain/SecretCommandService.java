@@ -1,12 +1,11 @@
 package com.devkit.secrets.domain;
 
-import com.devkit.applications.domain.ApplicationEncryptionKeyRepository;
+import com.devkit.applications.domain.ApplicationKeyring;
 import com.devkit.secrets.domain.events.*;
 import com.devkit.secrets.domain.vo.SecretId;
 import com.devkit.secrets.integrations.SecretExternalManager;
 import com.devkit.shared.domain.ResourceNotFoundException;
 import com.devkit.shared.domain.SpringEventPublisher;
-import com.devkit.shared.security.EncryptionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,22 +21,19 @@ public class SecretCommandService {
     private final SecretRepository secretRepository;
     private final SecretRotationRepository secretRotationRepository;
     private final SpringEventPublisher eventPublisher;
-    private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
-    private final EncryptionService encryptionService;
+    private final ApplicationKeyring keyring;
     private final SecretExternalManager externalManager;
 
     SecretCommandService(
             SecretRepository secretRepository,
             SecretRotationRepository secretRotationRepository,
             SpringEventPublisher eventPublisher,
-            ApplicationEncryptionKeyRepository encryptionKeyRepository,
-            EncryptionService encryptionService,
+            ApplicationKeyring keyring,
             SecretExternalManager externalManager) {
         this.secretRepository = secretRepository;
         this.secretRotationRepository = secretRotationRepository;
         this.eventPublisher = eventPublisher;
-        this.encryptionKeyRepository = encryptionKeyRepository;
-        this.encryptionService = encryptionService;
+        this.keyring = keyring;
         this.externalManager = externalManager;
     }
 
@@ -48,11 +44,11 @@ public class SecretCommandService {
                             "Secret with key '" + cmd.key() + "' already exists for this application");
                 });
 
-        String encryptedValue = encryptSecretValue(cmd.applicationId(), cmd.value());
+        var encryptedValue = keyring.encrypt(cmd.applicationId(), cmd.value());
 
         var secret = SecretEntity.create(
                 cmd.key(),
-                encryptedValue,
+                encryptedValue.value(),
                 cmd.description(),
                 cmd.applicationId(),
                 cmd.environmentId(),
@@ -60,6 +56,7 @@ public class SecretCommandService {
                 cmd.externalSecretName(),
                 cmd.rotationPolicy()
         );
+        secret.setKeyVersionDirectly(encryptedValue.keyVersion());
 
         secretRepository.save(secret);
         externalManager.upsertSecret(secret, cmd.value(), cmd.description());
@@ -78,12 +75,13 @@ public class SecretCommandService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Secret not found with id: " + cmd.secretId()));
 
-        String encryptedValue = cmd.value() != null
-                ? encryptSecretValue(secret.getApplicationId(), cmd.value())
+        String previousApplicationId = secret.getApplicationId();
+        var encryptedValue = cmd.value() != null
+                ? keyring.encrypt(secret.getApplicationId(), cmd.value())
                 : null;
 
         secret.updateDetails(
-            encryptedValue,
+            encryptedValue != null ? encryptedValue.value() : null,
             cmd.description(),
             cmd.rotationPolicy(),
             cmd.applicationId(),
@@ -91,10 +89,20 @@ public class SecretCommandService {
             cmd.externalProvider(),
             cmd.externalSecretName()
         );
+        if (encryptedValue != null) {
+            secret.setKeyVersionDirectly(encryptedValue.keyVersion());
+        }
         secretRepository.save(secret);
         if (cmd.value() != null) {
             externalManager.upsertSecret(secret, cmd.value(), cmd.description());
         }
+        eventPublisher.publish(new SecretUpdatedEvent(
+                secret.getId().id(),
+                secret.getKey(),
+                secret.getApplicationId(),
+                secret.getEnvironmentId(),
+                previousApplicationId
+        ));
     }
 
     public String rotateSecret(RotateSecretCmd cmd) {
@@ -129,9 +137,11 @@ public class SecretCommandService {
             ));
             throw e;
         }
-        String newEncryptedValue = encryptSecretValue(secret.getApplicationId(), cmd.newValue());
+        var encryptedValue = keyring.encrypt(secret.getApplicationId(), cmd.newValue());
+        String newEncryptedValue = encryptedValue.value();
 
         secret.rotate(newEncryptedValue, cmd.rotatedBy());
+        secret.setKeyVersionDirectly(encryptedValue.keyVersion());
         secretRepository.save(secret);
 
         var rotationHistory = SecretRotationEntity.createSuccess(
@@ -160,19 +170,6 @@ public class SecretCommandService {
         return secret.getId().id();
     }
 
-    private String encryptSecretValue(String applicationId, String plaintextValue) {
-        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(applicationId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Application encryption key not found. Please create an encryption key for this application first."));
-
-        String applicationKey = encryptionService.unwrapApplicationKey(encryptionKey.getEncryptedKey());
-        return encryptionService.encryptForApp(
-                plaintextValue,
-                applicationKey,
-                encryptionKey.getSalt()
-        );
-    }
-
     public void deactivateSecret(String secretId) {
         var secret = secretRepository.findById(SecretId.of(secretId))
                 .orElseThrow(() -> new ResourceNotFoundException(
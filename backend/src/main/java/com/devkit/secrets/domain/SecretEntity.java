@@ -35,6 +35,9 @@ public class SecretEntity extends BaseEntity {
     @Column(name = "encrypted_value", nullable = false, columnDefinition = "TEXT")
     private String encryptedValue;
 
+    @Column(name = "key_version")
+    private Integer keyVersion;
+
     @Column(name = "description", length = 500)
     private String description;
 
@@ -176,6 +179,14 @@ public class SecretEntity extends BaseEntity {
         return nextRotationDate != null && Instant.now().isAfter(nextRotationDate);
     }
 
+    /**
+     * Records the application key version the encrypted value was written with.
+     * Package-private for internal use by SecretCommandService and SecretRotator.
+     */
+    void setKeyVersionDirectly(Integer keyVersion) {
+        this.keyVersion = keyVersion;
+    }
+
     private void calculateNextRotationDate() {
         if (rotationPolicy == RotationPolicy.MANUAL) {
             this.nextRotationDate = null;
@@ -207,6 +218,10 @@ public class SecretEntity extends BaseEntity {
         return encryptedValue;
     }
 
+    public Integer getKeyVersion() {
+        return keyVersion;
+    }
+
     public String getDescription() {
         return description;
     }
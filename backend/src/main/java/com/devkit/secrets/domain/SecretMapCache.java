@@ -0,0 +1,139 @@
+package com.devkit.secrets.domain;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.devkit.shared.cluster.ClusterMessageHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of the encrypted secret map of each (application, environment), so SDK secret
+ * reads cost neither a query nor loading full secret rows.
+ * <p>
+ * Secret events evict the maps of the affected application on the node that handles them, and on
+ * the other nodes through the cluster event bus. Callers must not hold a transaction, since a miss
+ * opens its own to load the map. Maps are loaded from the primary, so a lagging
+ * replica cannot put old values back, and a map whose load started before an eviction of its
+ * application is never served again. Entries also expire after {@code ttl}, which bounds staleness
+ * if a notification is missed.
+ */
+@Component
+public class SecretMapCache implements ClusterMessageHandler {
+
+    static final String CHANNEL = "devkit_secret_maps";
+
+    private final SecretRepository secretRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlNanos;
+    private final Map<MapKey, Entry> maps = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Map<String, Long> evictedAt = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile long clearedAt;
+
+    public SecretMapCache(
+            SecretRepository secretRepository,
+            ClusterEventBus clusterEventBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${devkit.cache.secret-map-ttl:300}") long ttlSeconds) {
+        this.secretRepository = secretRepository;
+        this.clusterEventBus = clusterEventBus;
+        // A read-write transaction, so the map is read from the primary rather than a replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.hits = Counter.builder("devkit.secrets.map.cache")
+            .tag("result", "hit")
+            .description("Secret map lookups served from memory")
+            .register(meterRegistry);
+        this.misses = Counter.builder("devkit.secrets.map.cache")
+            .tag("result", "miss")
+            .description("Secret map lookups loaded from the database")
+            .register(meterRegistry);
+        clusterEventBus.subscribe(CHANNEL, this);
+    }
+
+    /**
+     * Encrypted values of the active secrets of an application, by key; all environments when
+     * {@code environmentId} is null. The returned map is read-only.
+     */
+    public Map<String, String> get(String applicationId, String environmentId) {
+        MapKey key = new MapKey(applicationId, environmentId);
+        Entry entry = maps.get(key);
+        if (entry != null && isCurrent(entry, applicationId)) {
+            hits.increment();
+            return entry.secrets();
+        }
+        misses.increment();
+        return load(key);
+    }
+
+    /**
+     * Drop the cached maps of an application on this node and on the other nodes.
+     */
+    public void evict(String applicationId) {
+        evictLocally(applicationId);
+        clusterEventBus.publish(CHANNEL, applicationId);
+    }
+
+    @Override
+    public void onMessage(String payload) {
+        evictLocally(payload);
+    }
+
+    @Override
+    public void onResync() {
+        clearedAt = evictions.incrementAndGet();
+        maps.clear();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Map<String, String> load(MapKey key) {
+        long generation = evictions.get();
+        List<SecretMapEntry> entries = transactionTemplate.execute(status ->
+            secretRepository.findSecretMapEntries(key.applicationId(), key.environmentId()));
+
+        Map<String, String> secrets = new LinkedHashMap<>();
+        entries.forEach(entry -> secrets.put(entry.key(), entry.encryptedValue()));
+        Map<String, String> loaded = Collections.unmodifiableMap(secrets);
+
+        maps.put(key, new Entry(loaded, System.nanoTime(), generation));
+        return loaded;
+    }
+
+    /**
+     * Whether an entry is within its ttl and was loaded after the last eviction of its application.
+     */
+    private boolean isCurrent(Entry entry, String applicationId) {
+        return System.nanoTime() - entry.loadedAt() < ttlNanos
+            && entry.generation() >= clearedAt
+            && entry.generation() >= evictedAt.getOrDefault(applicationId, 0L);
+    }
+
+    private void evictLocally(String applicationId) {
+        evictedAt.merge(applicationId, evictions.incrementAndGet(), Math::max);
+        maps.keySet().removeIf(key -> key.applicationId().equals(applicationId));
+    }
+
+    private record MapKey(String applicationId, String environmentId) {}
+
+    /**
+     * A loaded map; {@code generation} is the eviction count when its load started.
+     */
+    private record Entry(Map<String, String> secrets, long loadedAt, long generation) {}
+}
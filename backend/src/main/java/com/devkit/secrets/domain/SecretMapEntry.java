@@ -0,0 +1,7 @@
+package com.devkit.secrets.domain;
+
+/**
+ * Key and encrypted value of an active secret, as served to SDKs.
+ */
+public record SecretMapEntry(String key, String encryptedValue) {
+}
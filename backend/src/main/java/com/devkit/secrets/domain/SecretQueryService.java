@@ -2,9 +2,9 @@ package com.devkit.secrets.domain;
 
 import com.devkit.secrets.domain.vo.SecretId;
 import com.devkit.shared.domain.ResourceNotFoundException;
-import com.devkit.applications.domain.ApplicationEncryptionKeyRepository;
-import com.devkit.shared.security.EncryptionService;
+import com.devkit.applications.domain.ApplicationKeyring;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,16 +20,16 @@ import java.util.stream.Collectors;
 public class SecretQueryService {
 
     private final SecretRepository secretRepository;
-    private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
-    private final EncryptionService encryptionService;
+    private final ApplicationKeyring keyring;
+    private final SecretMapCache secretMapCache;
 
     SecretQueryService(
             SecretRepository secretRepository,
-            ApplicationEncryptionKeyRepository encryptionKeyRepository,
-            EncryptionService encryptionService) {
+            ApplicationKeyring keyring,
+            SecretMapCache secretMapCache) {
         this.secretRepository = secretRepository;
-        this.encryptionKeyRepository = encryptionKeyRepository;
-        this.encryptionService = encryptionService;
+        this.keyring = keyring;
+        this.secretMapCache = secretMapCache;
     }
 
     /**
@@ -90,15 +90,10 @@ public class SecretQueryService {
             .orElseThrow(() -> new ResourceNotFoundException(
                 "Secret not found with id: " + secretId));
 
-        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(secret.getApplicationId())
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Application encryption key not found. Please create an encryption key for this application first."));
-
-        String applicationKey = encryptionService.unwrapApplicationKey(encryptionKey.getEncryptedKey());
-        String decryptedValue = encryptionService.decryptForApp(
+        String decryptedValue = keyring.decrypt(
+            secret.getApplicationId(),
             secret.getEncryptedValue(),
-            applicationKey,
-            encryptionKey.getSalt()
+            secret.getKeyVersion()
         );
 
         return SecretResultWithDecrypted.from(secret, decryptedValue);
@@ -118,18 +113,34 @@ public class SecretQueryService {
     /**
      * Get secrets as a map (for SDK consumption).
      * Returns encrypted values that SDKs must decrypt using the application's encryption key.
+     * Served from {@link SecretMapCache}. Runs outside a transaction, so a cache hit holds no
+     * connection and a miss holds only the one the cache loads with.
      *
      * @param applicationId the application ID
      * @param environmentId the environment ID
      * @return map of secret key to encrypted value
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, String> getSecretMap(String applicationId, String environmentId) {
-        return secretRepository.findActiveByApplicationIdAndEnvironmentId(applicationId, environmentId)
-                .stream()
-                .collect(Collectors.toMap(
-                        SecretEntity::getKey,
-                        SecretEntity::getEncryptedValue
-                ));
+        return secretMapCache.get(applicationId, environmentId);
+    }
+
+    /**
+     * Get the encrypted value of one secret (for SDK consumption), from the same cached map as {@link #getSecretMap}.
+     *
+     * @param applicationId the application ID
+     * @param environmentId the environment ID
+     * @param key the secret key
+     * @return the encrypted value
+     * @throws ResourceNotFoundException if there is no active secret with that key
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getEncryptedSecretValue(String applicationId, String environmentId, String key) {
+        String encryptedValue = secretMapCache.get(applicationId, environmentId).get(key);
+        if (encryptedValue == null) {
+            throw new ResourceNotFoundException("Secret not found with key: " + key);
+        }
+        return encryptedValue;
     }
 
     /**
@@ -43,6 +43,22 @@ public interface SecretRepository extends JpaRepository<SecretEntity, SecretId>
             @Param("environmentId") String environmentId
     );
 
+    /**
+     * Same secrets as {@link #findActiveByApplicationIdAndEnvironmentId}, reading only the columns SDKs need.
+     */
+    @Query("""
+            SELECT new com.devkit.secrets.domain.SecretMapEntry(s.key, s.encryptedValue)
+            FROM SecretEntity s
+            WHERE s.applicationId = :applicationId
+            AND (:environmentId IS NULL OR s.environmentId = :environmentId)
+            AND s.isActive = true
+            ORDER BY s.key ASC
+            """)
+    List<SecretMapEntry> findSecretMapEntries(
+            @Param("applicationId") String applicationId,
+            @Param("environmentId") String environmentId
+    );
+
     @Query("""
             SELECT s FROM SecretEntity s
             WHERE s.applicationId = :applicationId
@@ -65,6 +81,45 @@ public interface SecretRepository extends JpaRepository<SecretEntity, SecretId>
         return findSecretsNeedingRotation(Instant.now());
     }
 
+    /**
+     * Next chunk of secrets due for automatic rotation, in id order after {@code afterId} (null from the start).
+     */
+    @Query("""
+            SELECT new com.devkit.secrets.domain.DueSecret(s.id.id, s.applicationId)
+            FROM SecretEntity s
+            WHERE s.isActive = true
+            AND s.rotationPolicy <> 'MANUAL'
+            AND s.nextRotationDate <= :dueBefore
+            AND (:applicationId IS NULL OR s.applicationId = :applicationId)
+            AND (:shardCount = 1 OR mod(abs(cast(function('hashtext', s.applicationId) as Long)), :shardCount) = :shardIndex)
+            AND (:afterId IS NULL OR s.id.id > :afterId)
+            ORDER BY s.id.id
+            LIMIT :limit
+            """)
+    List<DueSecret> findDueForRotation(
+            @Param("dueBefore") Instant dueBefore,
+            @Param("applicationId") String applicationId,
+            @Param("shardIndex") int shardIndex,
+            @Param("shardCount") int shardCount,
+            @Param("afterId") String afterId,
+            @Param("limit") int limit
+    );
+
+    @Query("""
+            SELECT COUNT(s) FROM SecretEntity s
+            WHERE s.isActive = true
+            AND s.rotationPolicy <> 'MANUAL'
+            AND s.nextRotationDate <= :dueBefore
+            AND (:applicationId IS NULL OR s.applicationId = :applicationId)
+            AND (:shardCount = 1 OR mod(abs(cast(function('hashtext', s.applicationId) as Long)), :shardCount) = :shardIndex)
+            """)
+    long countDueForRotation(
+            @Param("dueBefore") Instant dueBefore,
+            @Param("applicationId") String applicationId,
+            @Param("shardIndex") int shardIndex,
+            @Param("shardCount") int shardCount
+    );
+
     default SecretEntity getByApplicationIdAndKey(String applicationId, String key) {
         return this.findByApplicationIdAndKey(applicationId, key)
                 .orElseThrow(() -> new ResourceNotFoundException(
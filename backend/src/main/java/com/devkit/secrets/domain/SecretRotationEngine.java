@@ -0,0 +1,280 @@
+package com.devkit.secrets.domain;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rotates every secret due for rotation, in bounded chunks processed in parallel.
+ * <p>
+ * Due secrets are listed in id order, {@code chunk-size} at a time. Within a chunk, each secret
+ * is rotated in its own transaction on a shared pool of {@code worker-threads}, with at most
+ * {@code max-concurrency-per-application} secrets of one application in flight, so a failing
+ * secret affects nothing else and one large application cannot starve the others.
+ * After each chunk, progress is checkpointed in {@code secret_rotation_runs}. A run whose node
+ * stops sending heartbeats for {@code stale-after} is taken over by the next run for the same
+ * scope and resumes after its last checkpoint. A scope is an application, or a
+ * {@link RotationShard} of all applications.
+ */
+@Component
+public class SecretRotationEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecretRotationEngine.class);
+
+    private final SecretRepository secretRepository;
+    private final SecretRotationRunRepository runRepository;
+    private final SecretRotator rotator;
+    private final SecretRotationProperties properties;
+    private final String owner;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final AtomicLong remaining = new AtomicLong();
+    private final Counter rotatedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Timer rotationTimer;
+    private final Timer chunkTimer;
+
+    public SecretRotationEngine(
+            SecretRepository secretRepository,
+            SecretRotationRunRepository runRepository,
+            SecretRotator rotator,
+            SecretRotationProperties properties,
+            ClusterEventBus clusterEventBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.secretRepository = secretRepository;
+        this.runRepository = runRepository;
+        this.rotator = rotator;
+        this.properties = properties;
+        this.owner = clusterEventBus.getNodeId();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "secret-rotation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("devkit.secrets.rotation.remaining", remaining, AtomicLong::get)
+            .description("Due secrets not yet processed by the rotation run in progress on this node")
+            .register(meterRegistry);
+        this.rotatedCounter = Counter.builder("devkit.secrets.rotation.rotated")
+            .description("Secrets rotated by rotation runs")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("devkit.secrets.rotation.failed")
+            .description("Secrets whose rotation failed")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("devkit.secrets.rotation.skipped")
+            .description("Listed secrets that were no longer due when their turn came")
+            .register(meterRegistry);
+        this.rotationTimer = Timer.builder("devkit.secrets.rotation.duration")
+            .description("Time to rotate one secret")
+            .register(meterRegistry);
+        this.chunkTimer = Timer.builder("devkit.secrets.rotation.chunk")
+            .description("Time to process one chunk of due secrets")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Rotate the due secrets of one application, or of the applications in {@code shard} when
+     * {@code applicationId} is null, resuming an interrupted run for the same scope. Returns the
+     * number of secrets rotated by this call; 0 when a run for the scope is already in progress elsewhere.
+     */
+    public int run(String applicationId, RotationShard shard) {
+        String scope = applicationId != null ? "application " + applicationId : shard.toString();
+        RunState state;
+        try {
+            state = transactionTemplate.execute(status -> start(applicationId, shard, scope));
+        } catch (DataIntegrityViolationException e) {
+            logger.info("A rotation run for {} was just started by another node", scope);
+            return 0;
+        }
+        if (state == null) {
+            return 0;
+        }
+
+        logger.info("Rotation run {} for {}: {} secrets due", state.runId(), scope, state.remaining());
+        remaining.set(state.remaining());
+        int rotated = 0;
+        int failed = 0;
+        String afterId = state.lastSecretId();
+        try {
+            while (true) {
+                String cursor = afterId;
+                List<DueSecret> chunk = transactionTemplate.execute(status -> secretRepository.findDueForRotation(
+                    state.dueBefore(), applicationId, shard.index(), shard.count(), cursor, properties.getChunkSize()));
+                if (chunk == null || chunk.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> complete(state.runId()));
+                    break;
+                }
+
+                ChunkResult result = chunkTimer.record(() -> processChunk(chunk, state.dueBefore()));
+                rotated += result.rotated();
+                failed += result.failed();
+                remaining.updateAndGet(value -> Math.max(0, value - chunk.size()));
+
+                afterId = chunk.get(chunk.size() - 1).id();
+                String lastSecretId = afterId;
+                Integer updated = transactionTemplate.execute(status -> runRepository.checkpoint(
+                    state.runId(), owner, lastSecretId, result.rotated(), result.failed(), Instant.now()));
+                if (updated == null || updated == 0) {
+                    logger.warn("Rotation run {} was taken over by another node, stopping", state.runId());
+                    break;
+                }
+            }
+        } finally {
+            remaining.set(0);
+        }
+
+        logger.info("Rotation run {} finished: {} rotated, {} failed", state.runId(), rotated, failed);
+        return rotated;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // An unfinished chunk is repeated when the run is resumed
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Open a run for the scope, or take over one whose node stopped. Returns null when a live run exists.
+     */
+    private RunState start(String applicationId, RotationShard shard, String scope) {
+        Instant now = Instant.now();
+        Instant staleBefore = now.minus(properties.getStaleAfter());
+
+        SecretRotationRunEntity running = runRepository.findRunning(applicationId, shard.index(), shard.count())
+            .orElse(null);
+        if (running != null) {
+            if (!running.isStale(staleBefore)) {
+                logger.info("Rotation run {} for {} is still in progress", running.getId(), scope);
+                return null;
+            }
+            if (runRepository.claimStale(running.getId(), owner, now, staleBefore) == 0) {
+                return null;
+            }
+            logger.info("Resuming interrupted rotation run {} after secret {}", running.getId(), running.getLastSecretId());
+            long left = running.getTotalDue() - running.getRotatedCount() - running.getFailedCount();
+            return new RunState(running.getId(), running.getDueBefore(), running.getLastSecretId(), Math.max(0, left));
+        }
+
+        long due = secretRepository.countDueForRotation(now, applicationId, shard.index(), shard.count());
+        SecretRotationRunEntity run = runRepository.saveAndFlush(
+            new SecretRotationRunEntity(applicationId, shard, now, (int) due, owner));
+        return new RunState(run.getId(), now, null, due);
+    }
+
+    private void complete(Long runId) {
+        runRepository.findById(runId)
+            .filter(run -> owner.equals(run.getOwner()))
+            .ifPresent(SecretRotationRunEntity::complete);
+    }
+
+    /**
+     * Rotate a chunk, draining each application's secrets through at most
+     * {@code max-concurrency-per-application} lanes on the shared pool.
+     */
+    private ChunkResult processChunk(List<DueSecret> chunk, Instant dueBefore) {
+        SecretRotator.ApplicationKeys keys = rotator.newKeyCache();
+        SecretRotator.ExternalValues external = pushExternalValues(chunk, dueBefore);
+        Map<String, Queue<DueSecret>> byApplication = new LinkedHashMap<>();
+        for (DueSecret secret : chunk) {
+            byApplication.computeIfAbsent(secret.applicationId(), id -> new ConcurrentLinkedQueue<>()).add(secret);
+        }
+
+        AtomicInteger rotated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        for (Queue<DueSecret> queue : byApplication.values()) {
+            int laneCount = Math.min(queue.size(), Math.max(1, properties.getMaxConcurrencyPerApplication()));
+            for (int i = 0; i < laneCount; i++) {
+                lanes.add(CompletableFuture.runAsync(() -> drain(queue, dueBefore, keys, external, rotated, failed), executor));
+            }
+        }
+        CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).join();
+        return new ChunkResult(rotated.get(), failed.get());
+    }
+
+    private void drain(
+            Queue<DueSecret> queue,
+            Instant dueBefore,
+            SecretRotator.ApplicationKeys keys,
+            SecretRotator.ExternalValues external,
+            AtomicInteger rotated,
+            AtomicInteger failed) {
+        DueSecret secret;
+        while ((secret = queue.poll()) != null) {
+            long start = System.nanoTime();
+            try {
+                if (rotator.rotateIfDue(secret.id(), dueBefore, keys, external)) {
+                    rotated.incrementAndGet();
+                    rotatedCounter.increment();
+                } else {
+                    skippedCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to rotate secret: {}", secret.id(), e);
+                failed.incrementAndGet();
+                failedCounter.increment();
+                recordFailure(secret, e);
+            } finally {
+                rotationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Push the chunk's external values in one batch. If that fails as a whole, each secret
+     * pushes its own value while it is rotated.
+     */
+    private SecretRotator.ExternalValues pushExternalValues(List<DueSecret> chunk, Instant dueBefore) {
+        try {
+            return rotator.pushExternalValues(chunk.stream().map(DueSecret::id).toList(), dueBefore);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to push external secret values for a rotation chunk, pushing them one by one", e);
+            return SecretRotator.ExternalValues.NONE;
+        }
+    }
+
+    private void recordFailure(DueSecret secret, RuntimeException cause) {
+        try {
+            rotator.recordFailure(secret.id(), cause.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Failed to record rotation failure of secret: {}", secret.id(), e);
+        }
+    }
+
+    // ==================== Record Classes ====================
+
+    private record RunState(Long runId, Instant dueBefore, String lastSecretId, long remaining) {}
+
+    private record ChunkResult(int rotated, int failed) {}
+}
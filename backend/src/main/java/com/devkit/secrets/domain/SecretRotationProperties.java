@@ -0,0 +1,60 @@
+package com.devkit.secrets.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for automatic secret rotation runs.
+ */
+@Component
+@ConfigurationProperties(prefix = "devkit.secrets.rotation")
+public class SecretRotationProperties {
+
+    private int chunkSize = 100;
+    private int workerThreads = 4;
+    private int maxConcurrencyPerApplication = 2;
+    private Duration staleAfter = Duration.ofMinutes(10);
+    private int shards = 1;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getMaxConcurrencyPerApplication() {
+        return maxConcurrencyPerApplication;
+    }
+
+    public void setMaxConcurrencyPerApplication(int maxConcurrencyPerApplication) {
+        this.maxConcurrencyPerApplication = maxConcurrencyPerApplication;
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+}
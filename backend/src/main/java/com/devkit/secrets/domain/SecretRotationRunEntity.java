@@ -0,0 +1,144 @@
+package com.devkit.secrets.domain;
+
+import com.devkit.shared.domain.AssertUtil;
+import com.devkit.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Progress of one automatic rotation run.
+ * Due secrets are processed in id order and the run is checkpointed after every chunk,
+ * so a run interrupted by a crash or restart resumes after the last completed chunk.
+ */
+@Entity
+@Table(name = "secret_rotation_runs")
+public class SecretRotationRunEntity extends BaseEntity {
+
+    public enum RunStatus {
+        RUNNING,      // Being processed, or interrupted and waiting to be resumed
+        COMPLETED     // Every due secret was attempted
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "application_id", length = 255, updatable = false)
+    private String applicationId;
+
+    @Column(name = "shard_index", nullable = false, updatable = false)
+    private Integer shardIndex;
+
+    @Column(name = "shard_count", nullable = false, updatable = false)
+    private Integer shardCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private RunStatus status;
+
+    @Column(name = "due_before", nullable = false, updatable = false)
+    private Instant dueBefore;
+
+    @Column(name = "last_secret_id", length = 255)
+    private String lastSecretId;
+
+    @Column(name = "total_due", nullable = false)
+    private Integer totalDue;
+
+    @Column(name = "rotated_count", nullable = false)
+    private Integer rotatedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    @Column(name = "owner", length = 255, nullable = false)
+    private String owner;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Instant heartbeatAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    // Protected no-arg constructor for JPA
+    protected SecretRotationRunEntity() {}
+
+    public SecretRotationRunEntity(
+            String applicationId,
+            RotationShard shard,
+            Instant dueBefore,
+            int totalDue,
+            String owner) {
+        AssertUtil.requireNotNull(shard, "Shard cannot be null");
+        this.applicationId = applicationId;
+        this.shardIndex = shard.index();
+        this.shardCount = shard.count();
+        this.status = RunStatus.RUNNING;
+        this.dueBefore = AssertUtil.requireNotNull(dueBefore, "Due-before instant cannot be null");
+        this.totalDue = totalDue;
+        this.owner = AssertUtil.requireNotBlank(owner, "Owner cannot be null or empty");
+        this.heartbeatAt = Instant.now();
+    }
+
+    // Domain methods
+    public boolean isStale(Instant staleBefore) {
+        return heartbeatAt.isBefore(staleBefore);
+    }
+
+    public void complete() {
+        this.status = RunStatus.COMPLETED;
+        this.finishedAt = Instant.now();
+        this.heartbeatAt = this.finishedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public RotationShard getShard() {
+        return new RotationShard(shardIndex, shardCount);
+    }
+
+    public RunStatus getStatus() {
+        return status;
+    }
+
+    public Instant getDueBefore() {
+        return dueBefore;
+    }
+
+    public String getLastSecretId() {
+        return lastSecretId;
+    }
+
+    public Integer getTotalDue() {
+        return totalDue;
+    }
+
+    public Integer getRotatedCount() {
+        return rotatedCount;
+    }
+
+    public Integer getFailedCount() {
+        return failedCount;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.devkit.secrets.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository for SecretRotationRunEntity.
+ */
+public interface SecretRotationRunRepository extends JpaRepository<SecretRotationRunEntity, Long> {
+
+    @Query("""
+            SELECT r FROM SecretRotationRunEntity r
+            WHERE r.status = 'RUNNING'
+            AND ((:applicationId IS NULL AND r.applicationId IS NULL) OR r.applicationId = :applicationId)
+            AND r.shardIndex = :shardIndex
+            AND r.shardCount = :shardCount
+            """)
+    Optional<SecretRotationRunEntity> findRunning(
+            @Param("applicationId") String applicationId,
+            @Param("shardIndex") int shardIndex,
+            @Param("shardCount") int shardCount
+    );
+
+    /**
+     * Take over a running run whose owner stopped sending heartbeats. Returns 0 if another node got it first.
+     */
+    @Modifying
+    @Query("""
+            UPDATE SecretRotationRunEntity r
+            SET r.owner = :owner, r.heartbeatAt = :now
+            WHERE r.id = :id AND r.status = 'RUNNING' AND r.heartbeatAt < :staleBefore
+            """)
+    int claimStale(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore
+    );
+
+    /**
+     * Record a completed chunk. Returns 0 if the run is no longer owned by {@code owner}.
+     */
+    @Modifying
+    @Query("""
+            UPDATE SecretRotationRunEntity r
+            SET r.lastSecretId = :lastSecretId,
+                r.rotatedCount = r.rotatedCount + :rotated,
+                r.failedCount = r.failedCount + :failed,
+                r.heartbeatAt = :now
+            WHERE r.id = :id AND r.status = 'RUNNING' AND r.owner = :owner
+            """)
+    int checkpoint(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("lastSecretId") String lastSecretId,
+            @Param("rotated") int rotated,
+            @Param("failed") int failed,
+            @Param("now") Instant now
+    );
+}
@@ -1,82 +1,67 @@
 package com.devkit.secrets.domain;
 
-import com.devkit.applications.domain.ApplicationEncryptionKeyRepository;
-import com.devkit.secrets.domain.events.SecretRotatedEvent;
-import com.devkit.secrets.domain.events.SecretRotationFailedEvent;
-import com.devkit.secrets.integrations.SecretExternalManager;
-import com.devkit.secrets.domain.vo.SecretId;
-import com.devkit.shared.domain.SpringEventPublisher;
-import com.devkit.shared.security.EncryptionService;
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.devkit.shared.scheduling.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
 
 /**
  * Service for automatic secret rotation.
- * This service should be called periodically by a scheduler (e.g., cron job).
+ * Due secrets are rotated daily by {@link SecretRotationEngine}; rotation can also be triggered
+ * for everything due, for one application, or for a single secret.
+ * <p>
+ * Applications are split into {@code shards}, each guarded by a {@link SchedulerLock} lease, so
+ * every node in the cluster can take a share of the work without two nodes rotating the same
+ * secret. Each node starts with a different shard to spread them out.
  */
 @Service
-@Transactional
 public class SecretRotationScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(SecretRotationScheduler.class);
 
-    private final SecretRepository secretRepository;
-    private final SecretRotationRepository rotationRepository;
-    private final EncryptionService encryptionService;
-    private final SpringEventPublisher eventPublisher;
-    private final ApplicationEncryptionKeyRepository encryptionKeyRepository;
-    private final SecretExternalManager externalManager;
+    private final SecretRotationEngine rotationEngine;
+    private final SecretRotator rotator;
+    private final SchedulerLock schedulerLock;
+    private final SecretRotationProperties properties;
+    private final int shardOffset;
 
     SecretRotationScheduler(
-            SecretRepository secretRepository,
-            SecretRotationRepository rotationRepository,
-            EncryptionService encryptionService,
-            SpringEventPublisher eventPublisher,
-            ApplicationEncryptionKeyRepository encryptionKeyRepository,
-            SecretExternalManager externalManager) {
-        this.secretRepository = secretRepository;
-        this.rotationRepository = rotationRepository;
-        this.encryptionService = encryptionService;
-        this.eventPublisher = eventPublisher;
-        this.encryptionKeyRepository = encryptionKeyRepository;
-        this.externalManager = externalManager;
+            SecretRotationEngine rotationEngine,
+            SecretRotator rotator,
+            SchedulerLock schedulerLock,
+            SecretRotationProperties properties,
+            ClusterEventBus clusterEventBus) {
+        this.rotationEngine = rotationEngine;
+        this.rotator = rotator;
+        this.schedulerLock = schedulerLock;
+        this.properties = properties;
+        this.shardOffset = Math.floorMod(clusterEventBus.getNodeId().hashCode(), Math.max(1, properties.getShards()));
     }
 
     /**
      * Rotate all secrets that need rotation based on their policy.
      * This method should be called periodically (e.g., daily).
      *
-     * @return Number of secrets rotated
+     * @return Number of secrets rotated by this node
      */
-    @Scheduled(cron = "0 0 2 * * *")
+    @Scheduled(cron = "${devkit.secrets.rotation.cron:0 0 2 * * *}")
     public int rotateDueSecrets() {
         logger.info("Starting automatic secret rotation check...");
 
-        List<SecretEntity> needsRotation = secretRepository.findSecretsNeedingRotation();
-
-        logger.info("Found {} secrets that need rotation", needsRotation.size());
-
-        int rotatedCount = 0;
-        int failedCount = 0;
-
-        for (SecretEntity secret : needsRotation) {
-            try {
-                rotateSecret(secret);
-                rotatedCount++;
-            } catch (Exception e) {
-                logger.error("Failed to rotate secret: {}", secret.getKey(), e);
-                recordFailure(secret, e.getMessage());
-                failedCount++;
-            }
+        int shards = Math.max(1, properties.getShards());
+        int rotated = 0;
+        for (int i = 0; i < shards; i++) {
+            RotationShard shard = new RotationShard((shardOffset + i) % shards, shards);
+            rotated += schedulerLock.executeWithLock(
+                "secret-rotation-" + shard.index() + "-of-" + shard.count(),
+                properties.getStaleAfter(),
+                SchedulerLock.DEFAULT_LOCK_AT_LEAST_FOR,
+                () -> rotationEngine.run(null, shard)
+            ).orElse(0);
         }
-
-        logger.info("Automatic rotation completed: {} rotated, {} failed", rotatedCount, failedCount);
-        return rotatedCount;
+        return rotated;
     }
 
     /**
@@ -84,171 +69,13 @@ public class SecretRotationScheduler {
      */
     public int rotateApplicationSecrets(String applicationId) {
         logger.info("Starting rotation check for application: {}", applicationId);
-
-        List<SecretEntity> appSecrets = secretRepository.findByApplicationId(applicationId);
-
-        List<SecretEntity> needsRotation = appSecrets.stream()
-            .filter(SecretEntity::isActive)
-            .filter(SecretEntity::needsRotation)
-            .toList();
-
-        logger.info("Found {} secrets for application {} that need rotation", needsRotation.size(), applicationId);
-
-        int rotatedCount = 0;
-        for (SecretEntity secret : needsRotation) {
-            try {
-                rotateSecret(secret);
-                rotatedCount++;
-            } catch (Exception e) {
-                logger.error("Failed to rotate secret: {}", secret.getKey(), e);
-                recordFailure(secret, e.getMessage());
-            }
-        }
-
-        return rotatedCount;
+        return rotationEngine.run(applicationId, RotationShard.ALL);
     }
 
     /**
      * Manually trigger rotation for a specific secret.
      */
     public void rotateSecretNow(String secretId, String rotatedBy) {
-        SecretEntity secret = secretRepository.findById(SecretId.of(secretId))
-            .orElseThrow(() -> new IllegalArgumentException("Secret not found: " + secretId));
-
-        rotateSecret(secret, rotatedBy, SecretRotationEntity.RotationReason.MANUAL);
-    }
-
-    /**
-     * Rotate a single secret with automatic value generation.
-     */
-    private void rotateSecret(SecretEntity secret) {
-        String rotatedBy = "SYSTEM_SCHEDULER";
-        SecretRotationEntity.RotationReason reason = determineRotationReason(secret);
-
-        rotateSecret(secret, rotatedBy, reason);
-    }
-
-    /**
-     * Rotate a specific secret with a specific reason.
-     */
-    private void rotateSecret(
-            SecretEntity secret,
-            String rotatedBy,
-            SecretRotationEntity.RotationReason reason) {
-
-        logger.info("Rotating secret: {} for application: {}", secret.getKey(), secret.getApplicationId());
-
-        // Generate new encrypted value
-        String previousValue = secret.getEncryptedValue();
-        Integer previousVersion = secret.getVersionNumber();
-
-        // For automatic rotation, we generate a new value
-        String newValue = generateNewSecretValue(secret);
-        externalManager.upsertSecret(secret, newValue, secret.getDescription());
-        String newEncryptedValue = encryptSecretValue(secret.getApplicationId(), newValue);
-
-        // Rotate the secret
-        secret.rotate(newEncryptedValue, rotatedBy);
-        secretRepository.save(secret);
-
-        // Record successful rotation
-        var rotationHistory = SecretRotationEntity.createSuccess(
-            secret.getId().id(),
-            secret.getKey(),
-            secret.getApplicationId(),
-            secret.getEnvironmentId(),
-            previousValue,
-            newEncryptedValue,
-            previousVersion,
-            secret.getVersionNumber(),
-            rotatedBy,
-            reason
-        );
-        rotationRepository.save(rotationHistory);
-
-        // Publish event
-        eventPublisher.publish(new SecretRotatedEvent(
-            secret.getId().id(),
-            secret.getKey(),
-            rotatedBy,
-            secret.getVersionNumber(),
-            secret.getApplicationId(),
-            secret.getEnvironmentId()
-        ));
-
-        logger.info("Successfully rotated secret: {}", secret.getKey());
-    }
-
-    /**
-     * Record a failed rotation attempt.
-     */
-    private void recordFailure(SecretEntity secret, String errorMessage) {
-        var failureHistory = SecretRotationEntity.createFailure(
-            secret.getId().id(),
-            secret.getKey(),
-            secret.getApplicationId(),
-            secret.getEnvironmentId(),
-            secret.getVersionNumber(),
-            "SYSTEM_SCHEDULER",
-            SecretRotationEntity.RotationReason.AUTOMATIC_SCHEDULED,
-            errorMessage
-        );
-        rotationRepository.save(failureHistory);
-        eventPublisher.publish(new SecretRotationFailedEvent(
-            secret.getId().id(),
-            secret.getKey(),
-            "SYSTEM_SCHEDULER",
-            secret.getVersionNumber(),
-            secret.getApplicationId(),
-            secret.getEnvironmentId(),
-            errorMessage
-        ));
-    }
-
-    private String encryptSecretValue(String applicationId, String plaintextValue) {
-        var encryptionKey = encryptionKeyRepository.findLatestActiveByApplicationId(applicationId)
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Application encryption key not found. Please create an encryption key for this application first."));
-
-        String applicationKey = encryptionService.unwrapApplicationKey(encryptionKey.getEncryptedKey());
-        return encryptionService.encryptForApp(
-            plaintextValue,
-            applicationKey,
-            encryptionKey.getSalt()
-        );
-    }
-
-    /**
-     * Generate a new secret value.
-     * In production, this would integrate with external secret managers.
-     */
-    private String generateNewSecretValue(SecretEntity secret) {
-        // For now, generate a random password
-        // In production, integrate with AWS Secrets Manager, HashiCorp Vault, etc.
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
-        StringBuilder password = new StringBuilder();
-
-        for (int i = 0; i < 32; i++) {
-            int index = (int) (Math.random() * chars.length());
-            password.append(chars.charAt(index));
-        }
-
-        return password.toString();
-    }
-
-    /**
-     * Determine the rotation reason based on the secret's policy and state.
-     */
-    private SecretRotationEntity.RotationReason determineRotationReason(SecretEntity secret) {
-        if (secret.getRotationPolicy() == SecretEntity.RotationPolicy.MANUAL) {
-            return SecretRotationEntity.RotationReason.MANUAL;
-        }
-
-        // Check if it's past due date
-        if (secret.getNextRotationDate() != null && secret.needsRotation()) {
-            return SecretRotationEntity.RotationReason.AUTOMATIC_EXPIRY;
-        }
-
-        return SecretRotationEntity.RotationReason.AUTOMATIC_SCHEDULED;
+        rotator.rotateNow(secretId, rotatedBy);
     }
 }
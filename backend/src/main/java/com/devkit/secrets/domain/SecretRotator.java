@@ -0,0 +1,279 @@
+package com.devkit.secrets.domain;
+
+import com.devkit.applications.domain.ApplicationKeyring;
+import com.devkit.secrets.domain.events.SecretRotatedEvent;
+import com.devkit.secrets.domain.events.SecretRotationFailedEvent;
+import com.devkit.secrets.domain.vo.SecretId;
+import com.devkit.secrets.integrations.ExternalSecretWrite;
+import com.devkit.secrets.integrations.SecretExternalManager;
+import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.shared.security.EncryptionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rotates one secret at a time, each in its own transaction, so a failing secret never
+ * rolls back the rotation of another. For scheduled rotation, the new values of secrets kept
+ * in an external secret manager are pushed beforehand, one batch per chunk.
+ */
+@Component
+public class SecretRotator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecretRotator.class);
+
+    static final String SYSTEM_ROTATOR = "SYSTEM_SCHEDULER";
+
+    private final SecretRepository secretRepository;
+    private final SecretRotationRepository rotationRepository;
+    private final EncryptionService encryptionService;
+    private final SpringEventPublisher eventPublisher;
+    private final ApplicationKeyring keyring;
+    private final SecretExternalManager externalManager;
+    private final TransactionTemplate transactionTemplate;
+
+    SecretRotator(
+            SecretRepository secretRepository,
+            SecretRotationRepository rotationRepository,
+            EncryptionService encryptionService,
+            SpringEventPublisher eventPublisher,
+            ApplicationKeyring keyring,
+            SecretExternalManager externalManager,
+            PlatformTransactionManager transactionManager) {
+        this.secretRepository = secretRepository;
+        this.rotationRepository = rotationRepository;
+        this.encryptionService = encryptionService;
+        this.eventPublisher = eventPublisher;
+        this.keyring = keyring;
+        this.externalManager = externalManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rotate a secret with a generated value if it is still active and due before {@code dueBefore}.
+     * Returns false when there was nothing to do, for instance because it was rotated in the meantime.
+     */
+    public boolean rotateIfDue(String secretId, Instant dueBefore, ApplicationKeys keys, ExternalValues external) {
+        Boolean rotated = transactionTemplate.execute(status -> {
+            SecretEntity secret = secretRepository.findById(SecretId.of(secretId)).orElse(null);
+            if (secret == null || !isDue(secret, dueBefore)) {
+                return false;
+            }
+            RuntimeException pushFailure = external.failures().get(secretId);
+            if (pushFailure != null) {
+                throw pushFailure;
+            }
+            rotate(secret, SYSTEM_ROTATOR, determineRotationReason(secret), keys, external.values().get(secretId));
+            return true;
+        });
+        return Boolean.TRUE.equals(rotated);
+    }
+
+    /**
+     * Generate new values for the due secrets among {@code secretIds} that are kept in an external
+     * secret manager, and push them with one {@link SecretExternalManager#upsertSecrets} call,
+     * outside any transaction. Pass the result to {@link #rotateIfDue}, which stores the pushed
+     * values instead of pushing each one again.
+     */
+    public ExternalValues pushExternalValues(Collection<String> secretIds, Instant dueBefore) {
+        List<SecretEntity> secrets = transactionTemplate.execute(status ->
+            secretRepository.findAllById(secretIds.stream().map(SecretId::of).toList()).stream()
+                .filter(secret -> secret.getExternalProvider() != null && isDue(secret, dueBefore))
+                .toList());
+        if (secrets == null || secrets.isEmpty()) {
+            return ExternalValues.NONE;
+        }
+
+        List<ExternalSecretWrite> writes = secrets.stream()
+            .map(secret -> new ExternalSecretWrite(secret, generateNewSecretValue(secret), secret.getDescription()))
+            .toList();
+        Map<String, RuntimeException> failures = externalManager.upsertSecrets(writes);
+        Map<String, String> values = new HashMap<>();
+        for (ExternalSecretWrite write : writes) {
+            String secretId = write.secret().getId().id();
+            if (!failures.containsKey(secretId)) {
+                values.put(secretId, write.plaintextValue());
+            }
+        }
+        return new ExternalValues(values, failures);
+    }
+
+    /**
+     * Rotate a secret right away, whatever its policy.
+     */
+    public void rotateNow(String secretId, String rotatedBy) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SecretEntity secret = secretRepository.findById(SecretId.of(secretId))
+                .orElseThrow(() -> new IllegalArgumentException("Secret not found: " + secretId));
+            rotate(secret, rotatedBy, SecretRotationEntity.RotationReason.MANUAL, new ApplicationKeys(), null);
+        });
+    }
+
+    /**
+     * A fresh cache of derived application keys for {@link #rotateIfDue}.
+     */
+    public ApplicationKeys newKeyCache() {
+        return new ApplicationKeys();
+    }
+
+    /**
+     * Record a failed automatic rotation attempt in its own transaction.
+     */
+    public void recordFailure(String secretId, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status ->
+            secretRepository.findById(SecretId.of(secretId)).ifPresent(secret -> {
+                var failureHistory = SecretRotationEntity.createFailure(
+                    secret.getId().id(),
+                    secret.getKey(),
+                    secret.getApplicationId(),
+                    secret.getEnvironmentId(),
+                    secret.getVersionNumber(),
+                    SYSTEM_ROTATOR,
+                    SecretRotationEntity.RotationReason.AUTOMATIC_SCHEDULED,
+                    errorMessage
+                );
+                rotationRepository.save(failureHistory);
+                eventPublisher.publish(new SecretRotationFailedEvent(
+                    secret.getId().id(),
+                    secret.getKey(),
+                    SYSTEM_ROTATOR,
+                    secret.getVersionNumber(),
+                    secret.getApplicationId(),
+                    secret.getEnvironmentId(),
+                    errorMessage
+                ));
+            })
+        );
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isDue(SecretEntity secret, Instant dueBefore) {
+        return secret.isActive() && secret.getRotationPolicy() != SecretEntity.RotationPolicy.MANUAL
+            && secret.getNextRotationDate() != null && !secret.getNextRotationDate().isAfter(dueBefore);
+    }
+
+    /**
+     * Rotate to {@code pushedValue} when it was already pushed to the external manager,
+     * otherwise to a newly generated value that is pushed here.
+     */
+    private void rotate(
+            SecretEntity secret,
+            String rotatedBy,
+            SecretRotationEntity.RotationReason reason,
+            ApplicationKeys keys,
+            String pushedValue) {
+
+        logger.info("Rotating secret: {} for application: {}", secret.getKey(), secret.getApplicationId());
+
+        String previousValue = secret.getEncryptedValue();
+        Integer previousVersion = secret.getVersionNumber();
+
+        // For automatic rotation, we generate a new value
+        String newValue = pushedValue;
+        if (newValue == null) {
+            newValue = generateNewSecretValue(secret);
+            externalManager.upsertSecret(secret, newValue, secret.getDescription());
+        }
+        ApplicationKeyring.VersionedKey key = keys.get(secret.getApplicationId());
+        String newEncryptedValue = encryptionService.encryptForApp(newValue, key.key());
+
+        secret.rotate(newEncryptedValue, rotatedBy);
+        secret.setKeyVersionDirectly(key.version());
+        secretRepository.save(secret);
+
+        var rotationHistory = SecretRotationEntity.createSuccess(
+            secret.getId().id(),
+            secret.getKey(),
+            secret.getApplicationId(),
+            secret.getEnvironmentId(),
+            previousValue,
+            newEncryptedValue,
+            previousVersion,
+            secret.getVersionNumber(),
+            rotatedBy,
+            reason
+        );
+        rotationRepository.save(rotationHistory);
+
+        eventPublisher.publish(new SecretRotatedEvent(
+            secret.getId().id(),
+            secret.getKey(),
+            rotatedBy,
+            secret.getVersionNumber(),
+            secret.getApplicationId(),
+            secret.getEnvironmentId()
+        ));
+
+        logger.info("Successfully rotated secret: {}", secret.getKey());
+    }
+
+    /**
+     * Generate a new secret value.
+     * In production, this would integrate with external secret managers.
+     */
+    private String generateNewSecretValue(SecretEntity secret) {
+        // For now, generate a random password
+        // In production, integrate with AWS Secrets Manager, HashiCorp Vault, etc.
+        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
+        StringBuilder password = new StringBuilder();
+
+        for (int i = 0; i < 32; i++) {
+            int index = (int) (Math.random() * chars.length());
+            password.append(chars.charAt(index));
+        }
+
+        return password.toString();
+    }
+
+    /**
+     * Determine the rotation reason based on the secret's policy and state.
+     */
+    private SecretRotationEntity.RotationReason determineRotationReason(SecretEntity secret) {
+        if (secret.getRotationPolicy() == SecretEntity.RotationPolicy.MANUAL) {
+            return SecretRotationEntity.RotationReason.MANUAL;
+        }
+
+        // Check if it's past due date
+        if (secret.getNextRotationDate() != null && secret.needsRotation()) {
+            return SecretRotationEntity.RotationReason.AUTOMATIC_EXPIRY;
+        }
+
+        return SecretRotationEntity.RotationReason.AUTOMATIC_SCHEDULED;
+    }
+
+    // ==================== Key Cache ====================
+
+    /**
+     * Derived application keys for one batch of rotations, so the PBKDF2 derivation runs once
+     * per application instead of once per secret. Safe for concurrent use; keep one per chunk
+     * so key changes are picked up by the next chunk.
+     */
+    public final class ApplicationKeys {
+
+        private final Map<String, ApplicationKeyring.VersionedKey> keys = new ConcurrentHashMap<>();
+
+        private ApplicationKeys() {}
+
+        ApplicationKeyring.VersionedKey get(String applicationId) {
+            return keys.computeIfAbsent(applicationId, keyring::current);
+        }
+    }
+
+    /**
+     * Values pushed by {@link #pushExternalValues}, and the secrets whose push failed, keyed by secret id.
+     */
+    public record ExternalValues(Map<String, String> values, Map<String, RuntimeException> failures) {
+
+        public static final ExternalValues NONE = new ExternalValues(Map.of(), Map.of());
+    }
+}
@@ -13,7 +13,9 @@ public record SecretCreatedEvent(
     LocalDateTime occurredOn
 ) {
     public SecretCreatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public SecretCreatedEvent(String secretId, String key, String applicationId, String environmentId) {
@@ -13,7 +13,9 @@ public record SecretDeactivatedEvent(
     LocalDateTime occurredOn
 ) {
     public SecretDeactivatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public SecretDeactivatedEvent(String secretId, String key, String applicationId, String environmentId) {
@@ -13,7 +13,9 @@ public record SecretDeletedEvent(
     LocalDateTime occurredOn
 ) {
     public SecretDeletedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public SecretDeletedEvent(String secretId, String key, String applicationId, String environmentId) {
@@ -15,7 +15,9 @@ public record SecretRotatedEvent(
     LocalDateTime occurredOn
 ) {
     public SecretRotatedEvent {
-        occurredOn = LocalDateTime.now();
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
     }
 
     public SecretRotatedEvent(String secretId, String key, String rotatedBy, Integer newVersion, String applicationId, String environmentId) {
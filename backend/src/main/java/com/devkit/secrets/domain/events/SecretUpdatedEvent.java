@@ -0,0 +1,26 @@
+package com.devkit.secrets.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a secret's value or details are updated.
+ * {@code previousApplicationId} differs from {@code applicationId} when the secret was moved.
+ */
+public record SecretUpdatedEvent(
+    String secretId,
+    String key,
+    String applicationId,
+    String environmentId,
+    String previousApplicationId,
+    LocalDateTime occurredOn
+) {
+    public SecretUpdatedEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public SecretUpdatedEvent(String secretId, String key, String applicationId, String environmentId, String previousApplicationId) {
+        this(secretId, key, applicationId, environmentId, previousApplicationId, LocalDateTime.now());
+    }
+}
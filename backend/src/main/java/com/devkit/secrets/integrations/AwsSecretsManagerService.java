@@ -1,6 +1,7 @@
 package com.devkit.secrets.integrations;
 
 import com.devkit.secrets.domain.SecretEntity;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,14 +12,28 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.model.CreateSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.DeleteSecretRequest;
-import software.amazon.awssdk.services.secretsmanager.model.DescribeSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.PutSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * AWS Secrets Manager integration.
+ * <p>
+ * At most {@code max-concurrency} calls to AWS are in flight from this node; batch upserts run
+ * in parallel up to that limit. {@code devkit.secrets.aws.endpoint} points the client at another
+ * endpoint, such as a local stand-in for tests.
  */
 @Service
 @Primary
@@ -28,58 +43,121 @@ public class AwsSecretsManagerService implements SecretExternalManager {
     private static final Logger logger = LoggerFactory.getLogger(AwsSecretsManagerService.class);
 
     private final SecretsManagerClient client;
+    private final Semaphore permits;
+    private final ExecutorService executor;
 
     public AwsSecretsManagerService(
             @Value("${devkit.secrets.aws.region:us-east-1}") String region,
-            @Value("${devkit.secrets.aws.endpoint:}") String endpoint) {
+            @Value("${devkit.secrets.aws.endpoint:}") String endpoint,
+            @Value("${devkit.secrets.aws.max-concurrency:8}") int maxConcurrency) {
         SecretsManagerClient.Builder builder = SecretsManagerClient.builder()
             .region(Region.of(region));
         if (endpoint != null && !endpoint.isBlank()) {
             builder = builder.endpointOverride(URI.create(endpoint));
         }
         this.client = builder.build();
+        this.permits = new Semaphore(maxConcurrency);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "aws-secrets-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    /**
+     * Put the value, and create the secret only if AWS reports it missing. Existing secrets, the
+     * common case on rotation, take a single call.
+     */
     @Override
     public void upsertSecret(SecretEntity secret, String plaintextValue, String description) {
-        if (secret.getExternalProvider() != SecretEntity.ExternalProvider.AWS_SECRETS_MANAGER) {
-            return;
-        }
-        String secretName = secret.getExternalSecretName();
-        if (secretName == null || secretName.isBlank()) {
+        String secretName = externalName(secret);
+        if (secretName == null) {
             return;
         }
 
         try {
-            client.describeSecret(DescribeSecretRequest.builder().secretId(secretName).build());
-            client.putSecretValue(PutSecretValueRequest.builder()
+            call(() -> client.putSecretValue(PutSecretValueRequest.builder()
                 .secretId(secretName)
                 .secretString(plaintextValue)
-                .build());
+                .build()));
             logger.info("Updated AWS secret: {}", secretName);
         } catch (ResourceNotFoundException notFound) {
-            client.createSecret(CreateSecretRequest.builder()
+            call(() -> client.createSecret(CreateSecretRequest.builder()
                 .name(secretName)
                 .description(description)
                 .secretString(plaintextValue)
-                .build());
+                .build()));
             logger.info("Created AWS secret: {}", secretName);
         }
     }
 
     @Override
     public void deleteSecret(SecretEntity secret) {
-        if (secret.getExternalProvider() != SecretEntity.ExternalProvider.AWS_SECRETS_MANAGER) {
-            return;
-        }
-        String secretName = secret.getExternalSecretName();
-        if (secretName == null || secretName.isBlank()) {
+        String secretName = externalName(secret);
+        if (secretName == null) {
             return;
         }
-        client.deleteSecret(DeleteSecretRequest.builder()
+        call(() -> client.deleteSecret(DeleteSecretRequest.builder()
             .secretId(secretName)
             .forceDeleteWithoutRecovery(true)
-            .build());
+            .build()));
         logger.info("Deleted AWS secret: {}", secretName);
     }
+
+    @Override
+    public Map<String, RuntimeException> upsertSecrets(List<ExternalSecretWrite> writes) {
+        Map<String, CompletableFuture<Void>> pending = new LinkedHashMap<>();
+        for (ExternalSecretWrite write : writes) {
+            pending.put(write.secret().getId().id(), CompletableFuture.runAsync(
+                () -> upsertSecret(write.secret(), write.plaintextValue(), write.description()), executor));
+        }
+
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        pending.forEach((secretId, future) -> {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                failures.put(secretId, e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException("Failed to upsert AWS secret", e.getCause()));
+            }
+        });
+        return failures;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        client.close();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Run an AWS call within this node's concurrency limit.
+     */
+    private <T> T call(Supplier<T> request) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to call AWS Secrets Manager", e);
+        }
+        try {
+            return request.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static String externalName(SecretEntity secret) {
+        if (secret.getExternalProvider() != SecretEntity.ExternalProvider.AWS_SECRETS_MANAGER) {
+            return null;
+        }
+        String secretName = secret.getExternalSecretName();
+        return secretName == null || secretName.isBlank() ? null : secretName;
+    }
 }
@@ -0,0 +1,8 @@
+package com.devkit.secrets.integrations;
+
+import com.devkit.secrets.domain.SecretEntity;
+
+/**
+ * One value to push to an external secret manager.
+ */
+public record ExternalSecretWrite(SecretEntity secret, String plaintextValue, String description) {}
@@ -2,12 +2,36 @@ package com.devkit.secrets.integrations;
 
 import com.devkit.secrets.domain.SecretEntity;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Integrates secrets with external secret managers.
+ * <p>
+ * Secrets without an external provider are ignored by every method. {@link #upsertSecrets} defaults
+ * to one call per secret; integrations override it when their API can do better.
  */
 public interface SecretExternalManager {
 
     void upsertSecret(SecretEntity secret, String plaintextValue, String description);
 
     void deleteSecret(SecretEntity secret);
+
+    /**
+     * Push several values. A failing secret does not stop the others.
+     *
+     * @return the failures, keyed by secret id
+     */
+    default Map<String, RuntimeException> upsertSecrets(List<ExternalSecretWrite> writes) {
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        for (ExternalSecretWrite write : writes) {
+            try {
+                upsertSecret(write.secret(), write.plaintextValue(), write.description());
+            } catch (RuntimeException e) {
+                failures.put(write.secret().getId().id(), e);
+            }
+        }
+        return failures;
+    }
 }
@@ -117,6 +117,20 @@ public class SecretController {
         return ResponseEntity.ok(secretMap);
     }
 
+    @GetMapping("/application/{applicationId}/environment/{environmentId}/key/{key}")
+    @Operation(summary = "Get secret value by key", description = "Retrieves the encrypted value of one secret for SDK consumption, from the same cache as the secret map. The SDK should decrypt it using the application's encryption key.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Secret value retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Secret not found")
+    })
+    ResponseEntity<SecretValueResponse> getSecretValue(
+            @PathVariable String applicationId,
+            @PathVariable String environmentId,
+            @PathVariable String key) {
+        var encryptedValue = queryService.getEncryptedSecretValue(applicationId, environmentId, key);
+        return ResponseEntity.ok(new SecretValueResponse(key, encryptedValue));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get secret by ID", description = "Retrieves a secret by its ID (with encrypted value)")
     @ApiResponses(value = {
@@ -0,0 +1,10 @@
+package com.devkit.secrets.rest;
+
+/**
+ * REST Response for one secret's encrypted value, for SDK consumption.
+ */
+public record SecretValueResponse(
+    String key,
+    String encryptedValue
+) {
+}
@@ -0,0 +1,27 @@
+package com.devkit.shared.cache;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+
+/**
+ * JPA entity listener for second-level cached entities.
+ * Broadcasts every change so other nodes evict their copies after commit.
+ */
+public class SecondLevelCacheInvalidationListener {
+
+    private final ClusterEventBus clusterEventBus;
+
+    public SecondLevelCacheInvalidationListener(ClusterEventBus clusterEventBus) {
+        this.clusterEventBus = clusterEventBus;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        clusterEventBus.publish(SecondLevelCacheInvalidator.CHANNEL, Hibernate.getClass(entity).getName());
+    }
+}
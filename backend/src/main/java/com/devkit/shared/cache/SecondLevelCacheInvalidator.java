@@ -0,0 +1,48 @@
+package com.devkit.shared.cache;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.devkit.shared.cluster.ClusterMessageHandler;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts second-level cache regions when another node changes a cached entity.
+ * The local cache is kept current by Hibernate itself; this only handles remote changes.
+ */
+@Component
+public class SecondLevelCacheInvalidator implements ClusterMessageHandler {
+
+    static final String CHANNEL = "devkit_l2_cache";
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, ClusterEventBus clusterEventBus) {
+        this.entityManagerFactory = entityManagerFactory;
+        clusterEventBus.subscribe(CHANNEL, this);
+    }
+
+    @Override
+    public void onMessage(String entityName) {
+        Cache cache = cache();
+        cache.evictEntityData(entityName);
+        cache.evictCollectionData();
+        cache.evictQueryRegions();
+        logger.debug("Evicted second-level cache for {} after remote change", entityName);
+    }
+
+    @Override
+    public void onResync() {
+        cache().evictAllRegions();
+        logger.debug("Evicted all second-level cache regions after cluster resync");
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
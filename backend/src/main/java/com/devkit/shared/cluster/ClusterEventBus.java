@@ -0,0 +1,199 @@
+package com.devkit.shared.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lightweight broadcast between application nodes using PostgreSQL LISTEN/NOTIFY.
+ * Messages published inside a transaction are sent after commit and de-duplicated;
+ * a node never receives its own messages. Delivery is best effort, so handlers are
+ * told to resynchronize whenever the listener connection is (re)established.
+ */
+@Component
+public class ClusterEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventBus.class);
+
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+    private static final String SEPARATOR = "|";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<ClusterMessageHandler>> handlers = new ConcurrentHashMap<>();
+    private final Set<String> listening = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ClusterEventBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    /**
+     * Identifier of this node, unique per process.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Register a handler for a channel. Channel names must be valid SQL identifiers.
+     */
+    public void subscribe(String channel, ClusterMessageHandler handler) {
+        handlers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * Broadcast a message to the other nodes, after commit when a transaction is active.
+     */
+    public void publish(String channel, String payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(channel, payload);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Message> pending = (Set<Message>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Message> messages = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, messages);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messages.forEach(message -> send(message.channel(), message.payload()));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ClusterEventBus.this);
+                }
+            });
+            pending = messages;
+        }
+        pending.add(new Message(channel, payload));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cluster-event-bus");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void send(String channel, String payload) {
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, nodeId + SEPARATOR + payload);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to broadcast on channel {}: {}", channel, e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening.clear();
+                listenToNewChannels(connection);
+                handlers.values().forEach(list -> list.forEach(this::resync));
+
+                while (running) {
+                    listenToNewChannels(connection);
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Cluster event listener disconnected, retrying in {} ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                    sleep(RECONNECT_DELAY_MS);
+                }
+            }
+        }
+    }
+
+    private void listenToNewChannels(Connection connection) throws SQLException {
+        for (String channel : handlers.keySet()) {
+            if (listening.add(channel)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+            }
+        }
+    }
+
+    private void dispatch(String channel, String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String payload = message.substring(separator + 1);
+        for (ClusterMessageHandler handler : handlers.getOrDefault(channel, List.of())) {
+            try {
+                handler.onMessage(payload);
+            } catch (RuntimeException e) {
+                logger.error("Cluster message handler failed on channel {}", channel, e);
+            }
+        }
+    }
+
+    private void resync(ClusterMessageHandler handler) {
+        try {
+            handler.onResync();
+        } catch (RuntimeException e) {
+            logger.error("Cluster resync handler failed", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Message(String channel, String payload) {
+    }
+}
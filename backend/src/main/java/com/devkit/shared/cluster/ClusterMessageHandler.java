@@ -0,0 +1,20 @@
+package com.devkit.shared.cluster;
+
+/**
+ * Receives messages broadcast by other nodes on a {@link ClusterEventBus} channel.
+ */
+public interface ClusterMessageHandler {
+
+    /**
+     * Handle a message published by another node.
+     * @param payload the message payload
+     */
+    void onMessage(String payload);
+
+    /**
+     * Called after the listener (re)connected, when messages may have been missed.
+     * Handlers holding derived state should resynchronize it.
+     */
+    default void onResync() {
+    }
+}
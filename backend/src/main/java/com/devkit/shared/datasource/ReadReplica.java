@@ -0,0 +1,70 @@
+package com.devkit.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * A replica connection pool together with its last observed replication state.
+ */
+class ReadReplica {
+
+    /**
+     * Replay lag in seconds; zero on a primary or when the replica has replayed all WAL it received.
+     */
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END
+        """;
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+
+    ReadReplica(String name, HikariDataSource dataSource, Duration queryTimeout) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, queryTimeout.toSeconds()));
+    }
+
+    /**
+     * Measure replication lag and mark the replica healthy when it is within {@code maxLag}.
+     * Returns whether the health state changed.
+     */
+    boolean check(Duration maxLag) {
+        boolean wasHealthy = healthy;
+        try {
+            Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            healthy = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            healthy = false;
+        }
+        return wasHealthy != healthy;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    double getLagSeconds() {
+        return lagSeconds;
+    }
+}
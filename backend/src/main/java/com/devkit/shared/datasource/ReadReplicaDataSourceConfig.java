@@ -0,0 +1,100 @@
+package com.devkit.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with one that sends
+ * {@code @Transactional(readOnly = true)} work to read replicas.
+ * The primary pool keeps using {@code spring.datasource.*}; each replica has its own pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "devkit.datasource.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("devkit-primary");
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties primaryProperties,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("devkit.datasource.read-replicas.enabled is set but no replicas are configured");
+        }
+
+        List<ReadReplica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            String name = "devkit-replica-" + (i + 1);
+            replicas.add(new ReadReplica(
+                name,
+                createReplicaPool(name, replica, primaryProperties, meterRegistry),
+                replica.getConnectionTimeout()));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    ReadReplicaHealthMonitor readReplicaHealthMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        return new ReadReplicaHealthMonitor(replicaRoutingDataSource, properties.getMaxLag(), meterRegistry);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private HikariDataSource createReplicaPool(
+            String name,
+            ReadReplicaProperties.Replica replica,
+            DataSourceProperties primaryProperties,
+            MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primaryProperties.determineDriverClassName())
+            .url(replica.getUrl())
+            .username(StringUtils.hasText(replica.getUsername())
+                ? replica.getUsername() : primaryProperties.determineUsername())
+            .password(StringUtils.hasText(replica.getPassword())
+                ? replica.getPassword() : primaryProperties.determinePassword())
+            .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setMinimumIdle(replica.getMinimumIdle());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+}
@@ -0,0 +1,53 @@
+package com.devkit.shared.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Periodically measures replica lag and takes lagging or unreachable replicas out of rotation.
+ * Replicas start out of rotation until their first successful check.
+ */
+public class ReadReplicaHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaHealthMonitor.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+
+    ReadReplicaHealthMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+
+        for (ReadReplica replica : routingDataSource.getReplicas()) {
+            Gauge.builder("devkit.datasource.replica.lag", replica, ReadReplica::getLagSeconds)
+                .description("Replication lag of the read replica in seconds")
+                .baseUnit("seconds")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+            Gauge.builder("devkit.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .description("Whether the read replica is in rotation")
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${devkit.datasource.read-replicas.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (ReadReplica replica : routingDataSource.getReplicas()) {
+            if (!replica.check(maxLag)) {
+                continue;
+            }
+            if (replica.isHealthy()) {
+                logger.info("Read replica {} back in rotation (lag {}s)", replica.getName(), replica.getLagSeconds());
+            } else {
+                logger.warn("Read replica {} out of rotation (lag {}s, max {}), reads fall back to primary",
+                    replica.getName(), replica.getLagSeconds(), maxLag);
+            }
+        }
+    }
+}
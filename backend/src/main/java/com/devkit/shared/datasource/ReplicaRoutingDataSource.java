@@ -0,0 +1,94 @@
+package com.devkit.shared.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a healthy replica, round robin, and everything else to the primary.
+ * <p>
+ * After a thread writes, its reads stay on the primary for {@code stickiness} so a request can read
+ * back what it just committed. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager
+ * asks for a connection before the read-only flag is bound to the thread.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Long> primaryPinnedUntil = new ThreadLocal<>();
+
+    private final List<ReadReplica> replicas;
+    private final long stickinessNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource primary, List<ReadReplica> replicas, Duration stickiness) {
+        this.replicas = List.copyOf(replicas);
+        this.stickinessNanos = stickiness.toNanos();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Close the replica pools; the primary pool is a bean of its own.
+     */
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryPinnedUntil.set(System.nanoTime() + stickinessNanos);
+            return PRIMARY;
+        }
+        if (isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        ReadReplica replica = nextHealthyReplica();
+        return replica != null ? replica.getName() : PRIMARY;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isPinnedToPrimary() {
+        Long until = primaryPinnedUntil.get();
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        primaryPinnedUntil.remove();
+        return false;
+    }
+
+    private ReadReplica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReadReplica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+}
@@ -1,18 +1,23 @@
 package com.devkit.shared.domain;
 
+import com.devkit.shared.outbox.TransactionalOutbox;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
  * Wrapper around Spring's ApplicationEventPublisher for domain events.
+ * Events published inside a transaction go through the transactional outbox, so listeners
+ * only see them once the transaction commits and do not add to its latency.
  */
 @Component
 public class SpringEventPublisher {
 
     private final ApplicationEventPublisher publisher;
+    private final TransactionalOutbox outbox;
 
-    public SpringEventPublisher(ApplicationEventPublisher publisher) {
+    public SpringEventPublisher(ApplicationEventPublisher publisher, TransactionalOutbox outbox) {
         this.publisher = publisher;
+        this.outbox = outbox;
     }
 
     /**
@@ -20,6 +25,19 @@ public class SpringEventPublisher {
      * @param event the event to publish
      */
     public void publish(Object event) {
+        if (outbox.accepts(event)) {
+            outbox.append(event);
+            return;
+        }
+        publisher.publishEvent(event);
+    }
+
+    /**
+     * Publish an event to this node's listeners right away, bypassing the outbox.
+     * For in-process hints whose listeners only touch memory.
+     * @param event the event to publish
+     */
+    public void publishLocally(Object event) {
         publisher.publishEvent(event);
     }
 }
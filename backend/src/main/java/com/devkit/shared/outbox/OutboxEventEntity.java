@@ -0,0 +1,130 @@
+package com.devkit.shared.outbox;
+
+import com.devkit.shared.domain.AssertUtil;
+import com.devkit.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A domain event recorded in the same transaction as the change that raised it,
+ * waiting to be dispatched to listeners by the {@link OutboxRelay}.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity extends BaseEntity {
+
+    public enum OutboxStatus {
+        PENDING,      // Waiting to be dispatched
+        PROCESSED,    // Dispatched to all listeners
+        DEAD          // Gave up after too many failed attempts
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50, updatable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 255, updatable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 255, updatable = false)
+    private String eventType; // Fully qualified class name of the event
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT", updatable = false)
+    private String payload; // JSON payload
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    // Protected no-arg constructor for JPA
+    protected OutboxEventEntity() {}
+
+    public OutboxEventEntity(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = AssertUtil.requireNotBlank(aggregateType, "Aggregate type cannot be null or empty");
+        this.aggregateId = AssertUtil.requireNotBlank(aggregateId, "Aggregate ID cannot be null or empty");
+        this.eventType = AssertUtil.requireNotBlank(eventType, "Event type cannot be null or empty");
+        this.payload = AssertUtil.requireNotNull(payload, "Payload cannot be null");
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = Instant.now();
+    }
+
+    // Domain methods
+    public void markAsProcessed() {
+        this.status = OutboxStatus.PROCESSED;
+        this.processedAt = Instant.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Record a failed dispatch; the event is retried at {@code nextAttemptAt}, or marked dead
+     * once {@code maxAttempts} is reached.
+     */
+    public void recordFailure(String errorMessage, Instant nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = errorMessage;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+}
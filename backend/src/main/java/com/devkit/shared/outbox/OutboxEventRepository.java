@@ -0,0 +1,59 @@
+package com.devkit.shared.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for OutboxEventEntity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Ids of due events that are the oldest pending event of their aggregate, oldest first.
+     * An event waiting for a retry holds back the later events of its aggregate.
+     */
+    @Query(value = """
+        SELECT o.id FROM outbox_events o
+        WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now
+        AND NOT EXISTS (
+            SELECT 1 FROM outbox_events p
+            WHERE p.status = 'PENDING'
+            AND p.aggregate_type = o.aggregate_type
+            AND p.aggregate_id = o.aggregate_id
+            AND p.id < o.id
+        )
+        ORDER BY o.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findDispatchable(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Lock a pending event, unless another node is already dispatching it.
+     */
+    @Query(value = """
+        SELECT * FROM outbox_events
+        WHERE id = :id AND status = 'PENDING'
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<OutboxEventEntity> lockPending(@Param("id") Long id);
+
+    /**
+     * Count events by status.
+     */
+    long countByStatus(OutboxEventEntity.OutboxStatus status);
+
+    /**
+     * Delete events processed before the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.status = 'PROCESSED' AND o.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,246 @@
+package com.devkit.shared.outbox;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.devkit.shared.cluster.ClusterMessageHandler;
+import com.devkit.shared.scheduling.SchedulerLock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dispatches outbox events to the application's event listeners, off the writing transaction.
+ * <p>
+ * Each event is dispatched in its own transaction together with marking it processed, so the
+ * listeners' database work happens exactly once; side effects outside the database (HTTP calls,
+ * emails) may repeat if a node dies mid-dispatch. Only the oldest pending event of an aggregate
+ * is dispatched, so events of one aggregate are handled in order, across nodes. That order is
+ * insert order: transactions writing to the same aggregate concurrently may commit in another
+ * order, so listeners must not rely on strict ordering. Failed events
+ * are retried with exponential backoff and marked dead after {@code max-attempts}; a dead event
+ * no longer holds back its aggregate.
+ * <p>
+ * The relay is woken after each commit that writes to the outbox, through the cluster event bus
+ * on other nodes, and by a periodic poll as a fallback.
+ */
+@Component
+public class OutboxRelay implements ClusterMessageHandler {
+
+    static final String CHANNEL = "devkit_outbox";
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration CLEANUP_LEASE = Duration.ofMinutes(30);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService relayExecutor;
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+    private final Map<String, Class<?>> eventTypes = new ConcurrentHashMap<>();
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ClusterEventBus clusterEventBus,
+            SchedulerLock schedulerLock,
+            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.schedulerLock = schedulerLock;
+        // Dispatch is started from afterCommit callbacks, so never join the finished transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.dispatchedCounter = Counter.builder("devkit.outbox.dispatched")
+            .description("Outbox events dispatched to listeners")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("devkit.outbox.failed")
+            .description("Failed outbox dispatch attempts")
+            .register(meterRegistry);
+        Gauge.builder("devkit.outbox.pending", outboxEventRepository,
+                repository -> repository.countByStatus(OutboxEventEntity.OutboxStatus.PENDING))
+            .description("Outbox events waiting to be dispatched")
+            .register(meterRegistry);
+
+        clusterEventBus.subscribe(CHANNEL, this);
+    }
+
+    /**
+     * Dispatch pending events on the relay thread. Requests made while a pass is queued collapse into it.
+     */
+    public void requestDispatch() {
+        if (properties.isEnabled() && dispatchRequested.compareAndSet(false, true)) {
+            relayExecutor.execute(this::dispatchPending);
+        }
+    }
+
+    /**
+     * Catch events whose wake-up was missed, and retries that have fallen due.
+     */
+    @Scheduled(fixedDelayString = "${devkit.outbox.poll-interval:PT5S}")
+    public void poll() {
+        requestDispatch();
+    }
+
+    /**
+     * Remove processed events older than the retention period. Dead events are kept for inspection.
+     * Runs on one node of the cluster.
+     */
+    @Scheduled(cron = "${devkit.outbox.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        schedulerLock.executeWithLock("outbox-cleanup", CLEANUP_LEASE, () -> {
+            Instant cutoff = Instant.now().minus(properties.getRetention());
+            Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(cutoff));
+            logger.info("Deleted {} processed outbox events older than {}", deleted, cutoff);
+        });
+    }
+
+    @Override
+    public void onMessage(String payload) {
+        requestDispatch();
+    }
+
+    @Override
+    public void onResync() {
+        requestDispatch();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relayExecutor.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Dispatch due events until none are left.
+     */
+    private void dispatchPending() {
+        dispatchRequested.set(false);
+        try {
+            List<Long> ids;
+            int dispatched = 0;
+            do {
+                ids = outboxEventRepository.findDispatchable(Instant.now(), properties.getBatchSize());
+                for (Long id : ids) {
+                    if (dispatch(id)) {
+                        dispatched++;
+                    }
+                }
+            } while (ids.size() >= properties.getBatchSize());
+            // Dispatching an event makes the next event of its aggregate eligible
+            if (dispatched > 0) {
+                requestDispatch();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to dispatch outbox events", e);
+        }
+    }
+
+    /**
+     * Dispatch one event; false when another node holds it or it failed.
+     */
+    private boolean dispatch(Long id) {
+        try {
+            Boolean dispatched = transactionTemplate.execute(status ->
+                outboxEventRepository.lockPending(id).map(outboxEvent -> {
+                    eventPublisher.publishEvent(deserialize(outboxEvent));
+                    outboxEvent.markAsProcessed();
+                    return true;
+                }).orElse(false)
+            );
+            if (Boolean.TRUE.equals(dispatched)) {
+                dispatchedCounter.increment();
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            recordFailure(id, e);
+            return false;
+        }
+    }
+
+    private void recordFailure(Long id, RuntimeException error) {
+        transactionTemplate.executeWithoutResult(status ->
+            outboxEventRepository.findById(id).ifPresent(outboxEvent -> {
+                Instant nextAttemptAt = Instant.now().plus(backoff(outboxEvent.getAttempts() + 1));
+                outboxEvent.recordFailure(error.toString(), nextAttemptAt, properties.getMaxAttempts());
+
+                if (outboxEvent.getStatus() == OutboxEventEntity.OutboxStatus.DEAD) {
+                    logger.error("Outbox event {} ({}) is dead after {} attempts",
+                        id, outboxEvent.getEventType(), outboxEvent.getAttempts(), error);
+                } else {
+                    logger.warn("Outbox event {} ({}) failed, retrying at {}: {}",
+                        id, outboxEvent.getEventType(), nextAttemptAt, error.toString());
+                }
+            })
+        );
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private Object deserialize(OutboxEventEntity outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), eventType(outboxEvent.getEventType()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot read outbox event " + outboxEvent.getId(), e);
+        }
+    }
+
+    /**
+     * Only records from the application's own packages are loaded.
+     */
+    private Class<?> eventType(String className) {
+        return eventTypes.computeIfAbsent(className, name -> {
+            try {
+                Class<?> type = Class.forName(name, false, OutboxRelay.class.getClassLoader());
+                if (!type.isRecord() || !name.startsWith("com.devkit.")) {
+                    throw new IllegalStateException("Not a domain event: " + name);
+                }
+                return type;
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unknown event type: " + name, e);
+            }
+        });
+    }
+}
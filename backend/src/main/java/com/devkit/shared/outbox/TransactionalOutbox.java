@@ -0,0 +1,105 @@
+package com.devkit.shared.outbox;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Records domain events in the outbox table as part of the current transaction.
+ * <p>
+ * Events are records whose first component identifies the aggregate they belong to; together
+ * with the module the event comes from (for example {@code secrets}), it forms the key events
+ * are ordered by. After commit, the local relay and the relays on other nodes are woken up.
+ */
+@Component
+public class TransactionalOutbox {
+
+    private static final String BASE_PACKAGE = "com.devkit.";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final OutboxRelay relay;
+    private final ClusterEventBus clusterEventBus;
+    private final ObjectMapper objectMapper;
+
+    public TransactionalOutbox(
+            OutboxEventRepository outboxEventRepository,
+            OutboxProperties properties,
+            OutboxRelay relay,
+            ClusterEventBus clusterEventBus,
+            ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.relay = relay;
+        this.clusterEventBus = clusterEventBus;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Whether the event can be recorded now: the outbox is enabled, a transaction is active
+     * and the event is a record.
+     */
+    public boolean accepts(Object event) {
+        return properties.isEnabled()
+            && event instanceof Record
+            && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Record the event in the current transaction.
+     */
+    public void append(Object event) {
+        Class<?> type = event.getClass();
+        try {
+            outboxEventRepository.save(new OutboxEventEntity(
+                aggregateType(type),
+                aggregateId((Record) event),
+                type.getName(),
+                objectMapper.writeValueAsString(event)
+            ));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize event " + type.getName(), e);
+        }
+
+        // Sent after commit; other nodes wake up their relay
+        clusterEventBus.publish(OutboxRelay.CHANNEL, "wake");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    relay.requestDispatch();
+                }
+            });
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static String aggregateType(Class<?> type) {
+        String packageName = type.getPackageName();
+        if (!packageName.startsWith(BASE_PACKAGE)) {
+            return type.getSimpleName();
+        }
+        String module = packageName.substring(BASE_PACKAGE.length());
+        int end = module.indexOf('.');
+        return end > 0 ? module.substring(0, end) : module;
+    }
+
+    private static String aggregateId(Record event) {
+        RecordComponent[] components = event.getClass().getRecordComponents();
+        if (components.length == 0) {
+            return event.getClass().getSimpleName();
+        }
+        try {
+            Object id = components[0].getAccessor().invoke(event);
+            return id != null ? id.toString() : event.getClass().getSimpleName();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot read aggregate id of " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.devkit.shared.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by {@code (created_at DESC, id DESC)}, handed to clients as an
+ * opaque token. The next page continues strictly after the row the cursor points at, so pages
+ * stay cheap however deep the client goes.
+ */
+public record KeysetCursor(Instant createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(Instant createdAt, Object id) {
+        return new KeysetCursor(createdAt, String.valueOf(id));
+    }
+
+    /**
+     * Decode a token from {@link #encode()}; null or blank tokens mean the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                Instant.ofEpochSecond(0, Long.parseLong(value.substring(0, separator))),
+                value.substring(separator + 1)
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        long nanos = createdAt.getEpochSecond() * 1_000_000_000L + createdAt.getNano();
+        String value = nanos + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long longId() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor id: " + id, e);
+        }
+    }
+}
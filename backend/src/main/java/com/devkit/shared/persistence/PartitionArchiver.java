@@ -0,0 +1,14 @@
+package com.devkit.shared.persistence;
+
+/**
+ * Copies an expired partition somewhere else before {@link TimePartitionManager} drops it.
+ * <p>
+ * The partition has already been detached from its parent when this is called, so it is a
+ * plain table that no longer receives writes. If archiving throws, the table is kept and
+ * archiving is retried on the next maintenance run.
+ */
+@FunctionalInterface
+public interface PartitionArchiver {
+
+    void archive(String partition) throws Exception;
+}
@@ -0,0 +1,30 @@
+package com.devkit.shared.persistence;
+
+import java.time.Duration;
+
+/**
+ * A table range-partitioned by a timestamp column, maintained by {@link TimePartitionManager}.
+ *
+ * @param table      name of the partitioned parent table
+ * @param interval   partition width
+ * @param premake    number of future partitions kept ready
+ * @param retention  partitions whose range ended more than this long ago are dropped; null keeps them
+ * @param archiver   copies expired partitions before they are dropped; null drops them directly
+ */
+public record PartitionedTable(
+    String table,
+    PartitionInterval interval,
+    int premake,
+    Duration retention,
+    PartitionArchiver archiver
+) {
+
+    public PartitionedTable(String table, PartitionInterval interval, int premake, Duration retention) {
+        this(table, interval, premake, retention, null);
+    }
+
+    public enum PartitionInterval {
+        DAILY,
+        MONTHLY
+    }
+}
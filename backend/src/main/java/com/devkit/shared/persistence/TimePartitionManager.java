@@ -0,0 +1,227 @@
+package com.devkit.shared.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps time-partitioned tables ready for writes and trims them to their retention.
+ * <p>
+ * Partitions are named {@code <table>_pYYYY_MM} (monthly) or {@code <table>_pYYYY_MM_DD}
+ * (daily) and cover UTC ranges. Future partitions are created ahead of time; expired ones are
+ * dropped whole, which is instant and leaves no bloat behind, unlike deleting rows. Each table is
+ * maintained under an advisory lock so nodes do not race each other.
+ * <p>
+ * Tables with a {@link PartitionArchiver} have expired partitions detached instead. Each detached
+ * table is archived and dropped in its own transaction afterwards, so a slow archive never holds
+ * a lock on the parent table.
+ */
+@Component
+public class TimePartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimePartitionManager.class);
+
+    private static final DateTimeFormatter MONTHLY_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter DAILY_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM_dd");
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String PARTITIONS_QUERY = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = ? AND p.relnamespace = to_regnamespace(current_schema())
+        """;
+
+    private static final String DETACHED_QUERY = """
+        SELECT c.relname
+        FROM pg_class c
+        WHERE c.relkind = 'r' AND NOT c.relispartition
+          AND c.relnamespace = to_regnamespace(current_schema())
+          AND starts_with(c.relname, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<PartitionedTable> tables = new CopyOnWriteArrayList<>();
+
+    public TimePartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Have a table maintained. Table names must be plain lower-case SQL identifiers.
+     */
+    public void register(PartitionedTable table) {
+        if (!TABLE_NAME.matcher(table.table()).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + table.table());
+        }
+        tables.add(table);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * Create upcoming partitions and drop (or detach and archive) expired ones for every registered table.
+     */
+    @Scheduled(cron = "${devkit.persistence.partitions.maintenance-cron:0 0 1 * * *}")
+    public void maintain() {
+        for (PartitionedTable table : tables) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> maintain(table));
+            } catch (RuntimeException e) {
+                logger.error("Failed to maintain partitions of {}", table.table(), e);
+            }
+            if (table.archiver() != null) {
+                archiveDetached(table);
+            }
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void maintain(PartitionedTable table) {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, "partitions:" + table.table());
+        if (!Boolean.TRUE.equals(locked)) {
+            logger.debug("Partitions of {} are being maintained by another node", table.table());
+            return;
+        }
+
+        List<String> existing = jdbcTemplate.queryForList(PARTITIONS_QUERY, String.class, table.table());
+        LocalDate current = periodStart(table.interval(), LocalDate.now(ZoneOffset.UTC));
+
+        for (int i = 0; i <= table.premake(); i++) {
+            LocalDate start = advance(table.interval(), current, i);
+            String name = partitionName(table, start);
+            if (!existing.contains(name)) {
+                jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    name, table.table(), bound(start), bound(advance(table.interval(), start, 1))));
+                logger.info("Created partition {}", name);
+            }
+        }
+
+        if (table.retention() == null) {
+            return;
+        }
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(table.retention().toDays());
+        for (String name : existing) {
+            LocalDate start = parseStart(table, name);
+            if (start == null || advance(table.interval(), start, 1).isAfter(cutoff)) {
+                continue;
+            }
+            if (table.archiver() != null) {
+                jdbcTemplate.execute("ALTER TABLE " + table.table() + " DETACH PARTITION " + name);
+                logger.info("Detached expired partition {} for archiving", name);
+            } else {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+                logger.info("Dropped expired partition {}", name);
+            }
+        }
+    }
+
+    /**
+     * Archive and drop the detached partitions of a table, including any left over by an earlier failed run.
+     */
+    private void archiveDetached(PartitionedTable table) {
+        List<String> detached;
+        try {
+            detached = jdbcTemplate.queryForList(DETACHED_QUERY, String.class, table.table() + "_p");
+        } catch (RuntimeException e) {
+            logger.error("Failed to list detached partitions of {}", table.table(), e);
+            return;
+        }
+
+        for (String name : detached) {
+            if (parseStart(table, name) == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> archive(table, name));
+            } catch (RuntimeException e) {
+                logger.error("Failed to archive partition {}; it is kept and retried on the next run", name, e);
+            }
+        }
+    }
+
+    private void archive(PartitionedTable table, String name) {
+        Boolean locked = jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, "partitions:archive:" + name);
+        if (!Boolean.TRUE.equals(locked)) {
+            logger.debug("Partition {} is being archived by another node", name);
+            return;
+        }
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        if (!Boolean.TRUE.equals(exists)) {
+            return;
+        }
+
+        try {
+            table.archiver().archive(name);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Archiver failed for " + name, e);
+        }
+        jdbcTemplate.execute("DROP TABLE " + name);
+        logger.info("Archived and dropped expired partition {}", name);
+    }
+
+    private static LocalDate periodStart(PartitionedTable.PartitionInterval interval, LocalDate date) {
+        return interval == PartitionedTable.PartitionInterval.MONTHLY ? date.withDayOfMonth(1) : date;
+    }
+
+    private static LocalDate advance(PartitionedTable.PartitionInterval interval, LocalDate start, int periods) {
+        return interval == PartitionedTable.PartitionInterval.MONTHLY ? start.plusMonths(periods) : start.plusDays(periods);
+    }
+
+    private static String partitionName(PartitionedTable table, LocalDate start) {
+        return table.table() + "_p" + suffixFormat(table.interval()).format(start);
+    }
+
+    /**
+     * Start of the range a partition covers, or null for partitions not named by this manager (such as the default one).
+     */
+    private static LocalDate parseStart(PartitionedTable table, String name) {
+        String prefix = table.table() + "_p";
+        if (!name.startsWith(prefix)) {
+            return null;
+        }
+        String suffix = name.substring(prefix.length());
+        try {
+            if (table.interval() == PartitionedTable.PartitionInterval.MONTHLY) {
+                return LocalDate.parse(suffix + "_01", DAILY_SUFFIX);
+            }
+            return LocalDate.parse(suffix, DAILY_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static DateTimeFormatter suffixFormat(PartitionedTable.PartitionInterval interval) {
+        return interval == PartitionedTable.PartitionInterval.MONTHLY ? MONTHLY_SUFFIX : DAILY_SUFFIX;
+    }
+
+    private static String bound(LocalDate date) {
+        return date + " 00:00:00+00";
+    }
+}
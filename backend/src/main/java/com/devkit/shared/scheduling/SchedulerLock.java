@@ -0,0 +1,116 @@
+package com.devkit.shared.scheduling;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cluster-wide leases for {@code @Scheduled} jobs, so a job that fires on every node runs on one.
+ * <p>
+ * A lease is a row in {@code scheduler_locks}, taken when it is free and held until the job ends.
+ * It is then kept for at least {@code lockAtLeastFor} from the start, so nodes whose schedule
+ * fires slightly later do not run the job again. If the holder dies, the lease frees itself after
+ * {@code lockAtMostFor}, which must exceed the job's normal duration. Times come from the
+ * database clock, so clock skew between nodes does not matter. Lease statements commit on their
+ * own, whatever transaction the caller is in.
+ */
+@Component
+public class SchedulerLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLock.class);
+
+    /**
+     * Default minimum hold, comfortably longer than the spread between nodes firing the same schedule.
+     */
+    public static final Duration DEFAULT_LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private static final String ACQUIRE = """
+        INSERT INTO scheduler_locks (name, locked_by, locked_at, locked_until)
+        VALUES (?, ?, now(), now() + ? * INTERVAL '1 millisecond')
+        ON CONFLICT (name) DO UPDATE
+        SET locked_by = EXCLUDED.locked_by, locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until
+        WHERE scheduler_locks.locked_until <= now()
+        """;
+
+    private static final String RELEASE = """
+        UPDATE scheduler_locks
+        SET locked_until = GREATEST(now(), locked_at + ? * INTERVAL '1 millisecond')
+        WHERE name = ? AND locked_by = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public SchedulerLock(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ClusterEventBus clusterEventBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = clusterEventBus.getNodeId();
+    }
+
+    /**
+     * Run a task if this node gets the named lease, holding it for at least {@link #DEFAULT_LOCK_AT_LEAST_FOR}.
+     * Returns false when another node holds it.
+     */
+    public boolean executeWithLock(String name, Duration lockAtMostFor, Runnable task) {
+        return executeWithLock(name, lockAtMostFor, DEFAULT_LOCK_AT_LEAST_FOR, task);
+    }
+
+    /**
+     * Run a task if this node gets the named lease. Returns false when another node holds it.
+     */
+    public boolean executeWithLock(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        return executeWithLock(name, lockAtMostFor, lockAtLeastFor, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Run a task if this node gets the named lease and return its result.
+     * Empty when another node holds the lease, or when the task returns null.
+     */
+    public <T> Optional<T> executeWithLock(
+            String name, Duration lockAtMostFor, Duration lockAtLeastFor, Supplier<T> task) {
+        if (!acquire(name, lockAtMostFor)) {
+            logger.debug("Skipping {}: lease held by another node", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            release(name, lockAtLeastFor);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean acquire(String name, Duration lockAtMostFor) {
+        Integer updated = transactionTemplate.execute(status ->
+            jdbcTemplate.update(ACQUIRE, name, nodeId, lockAtMostFor.toMillis()));
+        return updated != null && updated > 0;
+    }
+
+    private void release(String name, Duration lockAtLeastFor) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update(RELEASE, lockAtLeastFor.toMillis(), name, nodeId));
+        } catch (RuntimeException e) {
+            // The lease expires on its own after lockAtMostFor
+            logger.warn("Failed to release lease {}", name, e);
+        }
+    }
+}
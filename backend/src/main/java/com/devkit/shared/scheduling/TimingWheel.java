@@ -0,0 +1,210 @@
+package com.devkit.shared.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel that fires a callback for each key once its deadline passes.
+ * Scheduling and cancelling are O(1) and thread-safe; the wheel itself is only
+ * touched by a single ticker thread. Scheduling an existing key replaces its deadline.
+ *
+ * @param <K> the key identifying a timeout
+ */
+public class TimingWheel<K> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheel.class);
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final List<Entry<K>>[] buckets;
+    private final Queue<Entry<K>> pending = new ConcurrentLinkedQueue<>();
+    private final Map<K, Entry<K>> scheduled = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final Consumer<K> onTimeout;
+
+    private final Instant startInstant;
+    private final long startNanos;
+
+    private ScheduledExecutorService ticker;
+    private long currentTick;
+
+    /**
+     * Create a wheel.
+     * @param name name used for the ticker thread and logs
+     * @param tick resolution of the wheel
+     * @param wheelSize number of buckets, rounded up to a power of two
+     * @param executor executor that runs the timeout callbacks
+     * @param onTimeout callback invoked with the key of each expired entry
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(String name, Duration tick, int wheelSize, Executor executor, Consumer<K> onTimeout) {
+        if (tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.name = name;
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.executor = executor;
+        this.onTimeout = onTimeout;
+        this.startInstant = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Start the ticker thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop the ticker thread. Pending entries are discarded.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        scheduled.clear();
+        pending.clear();
+    }
+
+    /**
+     * Schedule a key to time out at the given instant, replacing any earlier schedule.
+     */
+    public void schedule(K key, Instant deadline) {
+        long offsetNanos = Math.max(0, Duration.between(startInstant, deadline).toNanos());
+        Entry<K> entry = new Entry<>(key, offsetNanos);
+        Entry<K> previous = scheduled.put(key, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(entry);
+    }
+
+    /**
+     * Cancel a scheduled key.
+     * @return true if the key was scheduled
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = scheduled.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Whether a key is currently scheduled.
+     */
+    public boolean isScheduled(K key) {
+        return scheduled.containsKey(key);
+    }
+
+    /**
+     * Number of scheduled keys.
+     */
+    public int size() {
+        return scheduled.size();
+    }
+
+    // ==================== Ticker ====================
+
+    private void advance() {
+        try {
+            long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (currentTick <= targetTick) {
+                transferPending();
+                expire(buckets[(int) (currentTick & mask)]);
+                currentTick++;
+            }
+        } catch (RuntimeException e) {
+            logger.error("Timing wheel {} failed to advance", name, e);
+        }
+    }
+
+    private void transferPending() {
+        Entry<K> entry;
+        while ((entry = pending.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            long dueTick = Math.max(entry.offsetNanos / tickNanos, currentTick);
+            entry.remainingRounds = (dueTick - currentTick) / buckets.length;
+            buckets[(int) (dueTick & mask)].add(entry);
+        }
+    }
+
+    private void expire(List<Entry<K>> bucket) {
+        Iterator<Entry<K>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<K> entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+            } else if (entry.remainingRounds > 0) {
+                entry.remainingRounds--;
+            } else {
+                iterator.remove();
+                if (scheduled.remove(entry.key, entry)) {
+                    fire(entry.key);
+                }
+            }
+        }
+    }
+
+    private void fire(K key) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onTimeout.accept(key);
+                } catch (RuntimeException e) {
+                    logger.error("Timeout callback failed in {} for key {}", name, key, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Could not dispatch timeout in {} for key {}", name, key, e);
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long offsetNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Entry(K key, long offsetNanos) {
+            this.key = key;
+            this.offsetNanos = offsetNanos;
+        }
+    }
+}
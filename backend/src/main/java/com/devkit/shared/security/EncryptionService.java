@@ -204,10 +204,19 @@ public class EncryptionService {
      * @return Base64-encoded encrypted data (IV + ciphertext + tag)
      */
     public String encryptForApp(String plaintext, String applicationKey, byte[] salt) {
-        try {
-            // Derive application-specific key using PBKDF2
-            Key appKey = deriveKeyWithPbkdf2(applicationKey, salt);
+        return encryptForApp(plaintext, deriveApplicationKey(applicationKey, salt));
+    }
 
+    /**
+     * Encrypt data with an application key already derived by {@link #deriveApplicationKey}.
+     * Lets bulk operations pay for the PBKDF2 derivation once per application instead of once per value.
+     *
+     * @param plaintext the plaintext to encrypt
+     * @param appKey the derived application key
+     * @return Base64-encoded encrypted data (IV + ciphertext + tag)
+     */
+    public String encryptForApp(String plaintext, Key appKey) {
+        try {
             // Generate random IV
             byte[] iv = new byte[GCM_IV_LENGTH];
             secureRandom.nextBytes(iv);
@@ -240,10 +249,18 @@ public class EncryptionService {
      * @return the decrypted plaintext
      */
     public String decryptForApp(String encryptedData, String applicationKey, byte[] salt) {
-        try {
-            // Derive application-specific key using PBKDF2
-            Key appKey = deriveKeyWithPbkdf2(applicationKey, salt);
+        return decryptForApp(encryptedData, deriveApplicationKey(applicationKey, salt));
+    }
 
+    /**
+     * Decrypt data with an application key already derived by {@link #deriveApplicationKey}.
+     *
+     * @param encryptedData Base64-encoded encrypted data
+     * @param appKey the derived application key
+     * @return the decrypted plaintext
+     */
+    public String decryptForApp(String encryptedData, Key appKey) {
+        try {
             // Decode Base64
             byte[] decodedData = Base64.getDecoder().decode(encryptedData);
 
@@ -268,6 +285,17 @@ public class EncryptionService {
         }
     }
 
+    /**
+     * Derive the AES key used by {@link #encryptForApp} and {@link #decryptForApp} for an application.
+     *
+     * @param applicationKey the application's encryption key (plaintext)
+     * @param salt the salt for key derivation
+     * @return the derived key
+     */
+    public Key deriveApplicationKey(String applicationKey, byte[] salt) {
+        return deriveKeyWithPbkdf2(applicationKey, salt);
+    }
+
     /**
      * Wrap (encrypt) an application encryption key using the master key.
      * This allows storing application keys securely in the database.
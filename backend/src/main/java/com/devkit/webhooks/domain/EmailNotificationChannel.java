@@ -0,0 +1,50 @@
+package com.devkit.webhooks.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends notifications by SMTP through Spring's {@link JavaMailSender}, configured with the
+ * standard {@code spring.mail.*} properties. Point {@code spring.mail.host} at a local SMTP
+ * catcher (Mailpit, MailHog) to test without sending real mail. When no mail server is
+ * configured, messages are only logged.
+ */
+@Component
+public class EmailNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailNotificationChannel.class);
+
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final NotificationProperties properties;
+
+    public EmailNotificationChannel(ObjectProvider<JavaMailSender> mailSender, NotificationProperties properties) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public void send(NotificationMessage message) {
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            logger.warn("No mail server configured, not sending email to: {} | Subject: {}",
+                message.recipient(), message.subject());
+            return;
+        }
+
+        SimpleMailMessage email = new SimpleMailMessage();
+        email.setFrom(properties.getEmail().getFrom());
+        email.setTo(message.recipient());
+        email.setSubject(message.subject());
+        email.setText(message.body());
+        sender.send(email);
+    }
+}
@@ -0,0 +1,26 @@
+package com.devkit.webhooks.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes notifications to the log. Stand-in for real channels in local and test environments
+ * (see {@code devkit.notifications.route-all-to}).
+ */
+@Component
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingNotificationChannel.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(NotificationMessage message) {
+        logger.info("Notification to: {} | Subject: {} | Message: {}",
+            message.recipient(), message.subject(), message.body());
+    }
+}
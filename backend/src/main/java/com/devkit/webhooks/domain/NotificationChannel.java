@@ -0,0 +1,18 @@
+package com.devkit.webhooks.domain;
+
+/**
+ * A way of delivering notifications, such as email or Slack.
+ * <p>
+ * Implementations are Spring beans picked up by the {@link NotificationDispatcher}, which calls
+ * them from its own threads. A send that throws is retried with backoff, so sends should be
+ * safe to repeat.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Channel name used in configuration, e.g. {@code email}.
+     */
+    String name();
+
+    void send(NotificationMessage message) throws Exception;
+}
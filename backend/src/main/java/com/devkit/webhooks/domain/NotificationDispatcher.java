@@ -0,0 +1,240 @@
+package com.devkit.webhooks.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends notifications off the caller's thread through the registered {@link NotificationChannel}s.
+ * <p>
+ * Failed sends are retried with exponential backoff up to {@code max-attempts}. Digested
+ * notifications are held per channel, recipient and digest title for {@code digest-window}
+ * and sent as one message listing them all, so a rotation run over thousands of secrets
+ * produces one email instead of thousands. The queue lives in memory: notifications still
+ * queued or held when a node stops abruptly are lost.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationProperties properties;
+    private final Map<String, NotificationChannel> channels;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<DigestKey, PendingDigest> digests = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter droppedCounter;
+
+    public NotificationDispatcher(
+            List<NotificationChannel> channels,
+            NotificationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.channels = channels.stream()
+            .collect(Collectors.toMap(NotificationChannel::name, Function.identity()));
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(properties.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "notification-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        Gauge.builder("devkit.notifications.queued", queued, AtomicInteger::get)
+            .description("Notifications waiting to be sent, including retries")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("devkit.notifications.dropped")
+            .description("Notifications dropped because the queue was full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a notification to be sent on its own.
+     */
+    public void send(String channel, NotificationMessage message) {
+        NotificationChannel target = resolve(channel);
+        if (target != null) {
+            enqueue(new Delivery(target, message, 1), Duration.ZERO, false);
+        }
+    }
+
+    /**
+     * Hold a notification for the recipient's open digest with the given title.
+     * A digest holding a single notification is sent as that notification.
+     */
+    public void sendInDigest(String channel, String digestTitle, NotificationMessage message) {
+        NotificationChannel target = resolve(channel);
+        if (target == null) {
+            return;
+        }
+
+        DigestKey key = new DigestKey(target.name(), message.recipient(), digestTitle);
+        PendingDigest[] full = new PendingDigest[1];
+        digests.compute(key, (k, digest) -> {
+            if (digest == null) {
+                PendingDigest opened = new PendingDigest(target);
+                opened.flushTask = executor.schedule(
+                    () -> flushIfOpen(k, opened), properties.getDigestWindow().toMillis(), TimeUnit.MILLISECONDS);
+                digest = opened;
+            }
+            digest.messages.add(message);
+            if (digest.messages.size() >= properties.getMaxDigestEntries()) {
+                full[0] = digest;
+                return null;
+            }
+            return digest;
+        });
+
+        if (full[0] != null) {
+            full[0].flushTask.cancel(false);
+            enqueue(new Delivery(target, toMessage(key, full[0].messages), 1), Duration.ZERO, true);
+        }
+    }
+
+    /**
+     * Send open digests and give queued notifications a moment to go out.
+     */
+    @PreDestroy
+    void shutdown() {
+        digests.keySet().forEach(key -> {
+            PendingDigest digest = digests.remove(key);
+            if (digest != null) {
+                digest.flushTask.cancel(false);
+                enqueue(new Delivery(digest.channel, toMessage(key, digest.messages), 1), Duration.ZERO, true);
+            }
+        });
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Discarding {} notifications still queued at shutdown", executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Channel to use for a configured channel name, honouring {@code route-all-to}.
+     */
+    private NotificationChannel resolve(String channel) {
+        String name = properties.getRouteAllTo() != null && !properties.getRouteAllTo().isBlank()
+            ? properties.getRouteAllTo()
+            : channel;
+        NotificationChannel target = channels.get(name.toLowerCase());
+        if (target == null) {
+            logger.warn("Unknown notification channel: {}", name);
+        }
+        return target;
+    }
+
+    private void flushIfOpen(DigestKey key, PendingDigest digest) {
+        if (digests.remove(key, digest)) {
+            enqueue(new Delivery(digest.channel, toMessage(key, digest.messages), 1), Duration.ZERO, true);
+        }
+    }
+
+    private NotificationMessage toMessage(DigestKey key, List<NotificationMessage> messages) {
+        if (messages.size() == 1) {
+            return messages.get(0);
+        }
+        StringBuilder body = new StringBuilder();
+        for (NotificationMessage message : messages) {
+            body.append("- ").append(message.subject()).append('\n')
+                .append(message.body().indent(2)).append('\n');
+        }
+        return new NotificationMessage(
+            key.recipient(),
+            String.format("%s (%d)", key.title(), messages.size()),
+            body.toString().stripTrailing(),
+            Map.of("count", messages.size())
+        );
+    }
+
+    /**
+     * Schedule a send. New notifications are dropped when the queue is full; retries and
+     * digests, which already passed that check, are always accepted.
+     */
+    private void enqueue(Delivery delivery, Duration delay, boolean force) {
+        if (queued.incrementAndGet() > properties.getQueueCapacity() && !force) {
+            queued.decrementAndGet();
+            droppedCounter.increment();
+            logger.warn("Notification queue full, dropped {} notification to: {}",
+                delivery.channel().name(), delivery.message().recipient());
+            return;
+        }
+        try {
+            executor.schedule(() -> attempt(delivery), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            logger.warn("Notification dispatcher stopped, dropped {} notification to: {}",
+                delivery.channel().name(), delivery.message().recipient());
+        }
+    }
+
+    private void attempt(Delivery delivery) {
+        queued.decrementAndGet();
+        String channel = delivery.channel().name();
+        try {
+            delivery.channel().send(delivery.message());
+            meterRegistry.counter("devkit.notifications.sent", "channel", channel).increment();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (delivery.attempt() >= properties.getMaxAttempts()) {
+                meterRegistry.counter("devkit.notifications.failed", "channel", channel).increment();
+                logger.error("Giving up on {} notification to: {} after {} attempts",
+                    channel, delivery.message().recipient(), delivery.attempt(), e);
+                return;
+            }
+            Duration backoff = backoff(delivery.attempt());
+            logger.warn("Failed to send {} notification to: {}, retrying in {}: {}",
+                channel, delivery.message().recipient(), backoff, e.toString());
+            enqueue(new Delivery(delivery.channel(), delivery.message(), delivery.attempt() + 1), backoff, true);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 20);
+        Duration backoff = properties.getInitialBackoff().multipliedBy(multiplier);
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    // ==================== Record Classes ====================
+
+    private record Delivery(NotificationChannel channel, NotificationMessage message, int attempt) {}
+
+    private record DigestKey(String channel, String recipient, String title) {}
+
+    private static final class PendingDigest {
+        private final NotificationChannel channel;
+        private final List<NotificationMessage> messages = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+
+        private PendingDigest(NotificationChannel channel) {
+            this.channel = channel;
+        }
+    }
+}
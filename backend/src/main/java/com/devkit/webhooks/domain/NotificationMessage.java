@@ -0,0 +1,20 @@
+package com.devkit.webhooks.domain;
+
+import java.util.Map;
+
+/**
+ * A notification for one recipient. The recipient's format depends on the channel:
+ * an address for email, an incoming webhook URL for Slack.
+ */
+public record NotificationMessage(
+    String recipient,
+    String subject,
+    String body,
+    Map<String, Object> metadata
+) {
+    public NotificationMessage {
+        subject = subject != null ? subject : "";
+        body = body != null ? body : "";
+        metadata = metadata != null ? Map.copyOf(metadata) : Map.of();
+    }
+}
@@ -0,0 +1,131 @@
+package com.devkit.webhooks.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the notification queue and its channels.
+ */
+@Component
+@ConfigurationProperties(prefix = "devkit.notifications")
+public class NotificationProperties {
+
+    private String routeAllTo = "";
+    private int workerThreads = 2;
+    private int queueCapacity = 10000;
+    private Duration digestWindow = Duration.ofSeconds(60);
+    private int maxDigestEntries = 200;
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    private Email email = new Email();
+    private Slack slack = new Slack();
+
+    public String getRouteAllTo() {
+        return routeAllTo;
+    }
+
+    public void setRouteAllTo(String routeAllTo) {
+        this.routeAllTo = routeAllTo;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getDigestWindow() {
+        return digestWindow;
+    }
+
+    public void setDigestWindow(Duration digestWindow) {
+        this.digestWindow = digestWindow;
+    }
+
+    public int getMaxDigestEntries() {
+        return maxDigestEntries;
+    }
+
+    public void setMaxDigestEntries(int maxDigestEntries) {
+        this.maxDigestEntries = maxDigestEntries;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public void setEmail(Email email) {
+        this.email = email;
+    }
+
+    public Slack getSlack() {
+        return slack;
+    }
+
+    public void setSlack(Slack slack) {
+        this.slack = slack;
+    }
+
+    public static class Email {
+
+        private String from = "devkit@localhost";
+
+        public String getFrom() {
+            return from;
+        }
+
+        public void setFrom(String from) {
+            this.from = from;
+        }
+    }
+
+    public static class Slack {
+
+        private Duration timeout = Duration.ofSeconds(10);
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.devkit.webhooks.domain;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -9,11 +7,20 @@ import java.util.Map;
 
 /**
  * Service for sending notifications via email and Slack.
+ * Notifications are queued and sent asynchronously by the {@link NotificationDispatcher};
+ * secret rotation outcomes are grouped into one digest per recipient.
  */
 @Service
 public class NotificationService {
 
-    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    private static final String SECRETS_ROTATED_DIGEST = "Secrets rotated";
+    private static final String SECRET_ROTATIONS_FAILED_DIGEST = "Secret rotations failed";
+
+    private final NotificationDispatcher dispatcher;
+
+    public NotificationService(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
     /**
      * Send an email notification.
@@ -23,19 +30,7 @@ public class NotificationService {
             String subject,
             String message,
             Map<String, Object> metadata) {
-
-        // TODO: Integrate with email service (SendGrid, AWS SES, etc.)
-        // For now, just log
-        logger.info("Sending email to: {} | Subject: {} | Message: {}",
-            to, subject, message);
-
-        // Example integration:
-        // EmailRequest email = EmailRequest.builder()
-        //     .to(to)
-        //     .subject(subject)
-        //     .body(message)
-        //     .build();
-        // emailService.send(email);
+        dispatcher.send("email", new NotificationMessage(to, subject, message, metadata));
     }
 
     /**
@@ -45,18 +40,7 @@ public class NotificationService {
             String webhookUrl,
             String message,
             Map<String, Object> metadata) {
-
-        // TODO: Integrate with Slack webhook
-        // For now, just log
-        logger.info("Sending Slack message | Webhook: {} | Message: {}",
-            webhookUrl, message);
-
-        // Example integration:
-        // SlackMessage slackMessage = SlackMessage.builder()
-        //     .text(message)
-        //     .attachments(buildAttachments(metadata))
-        //     .build();
-        // slackRestTemplate.postForObject(webhookUrl, slackMessage, String.class);
+        dispatcher.send("slack", new NotificationMessage(webhookUrl, null, message, metadata));
     }
 
     /**
@@ -68,19 +52,7 @@ public class NotificationService {
             String subject,
             String message,
             Map<String, Object> metadata) {
-
-        switch (channel.toLowerCase()) {
-            case "email":
-                sendEmail(recipient, subject, message, metadata);
-                break;
-
-            case "slack":
-                sendSlackMessage(recipient, message, metadata);
-                break;
-
-            default:
-                logger.warn("Unknown notification channel: {}", channel);
-        }
+        dispatcher.send(channel, new NotificationMessage(recipient, subject, message, metadata));
     }
 
     /**
@@ -115,7 +87,7 @@ public class NotificationService {
     }
 
     /**
-     * Notify about secret rotation.
+     * Notify about secret rotation, as part of the recipient's digest.
      */
     public void notifySecretRotation(
             String channel,
@@ -137,15 +109,16 @@ public class NotificationService {
             Instant.now()
         );
 
-        sendNotification(channel, recipient, subject, message, Map.of(
-            "secretKey", secretKey,
-            "applicationId", applicationId,
-            "environmentId", environmentId
-        ));
+        dispatcher.sendInDigest(channel, SECRETS_ROTATED_DIGEST, new NotificationMessage(
+            recipient, subject, message, Map.of(
+                "secretKey", secretKey,
+                "applicationId", applicationId,
+                "environmentId", environmentId
+            )));
     }
 
     /**
-     * Notify about secret rotation failure.
+     * Notify about secret rotation failure, as part of the recipient's digest.
      */
     public void notifySecretRotationFailed(
             String channel,
@@ -170,12 +143,13 @@ public class NotificationService {
             Instant.now()
         );
 
-        sendNotification(channel, recipient, subject, message, Map.of(
-            "secretKey", secretKey,
-            "applicationId", applicationId,
-            "environmentId", environmentId,
-            "error", errorMessage
-        ));
+        dispatcher.sendInDigest(channel, SECRET_ROTATIONS_FAILED_DIGEST, new NotificationMessage(
+            recipient, subject, message, Map.of(
+                "secretKey", secretKey,
+                "applicationId", applicationId,
+                "environmentId", environmentId,
+                "error", errorMessage
+            )));
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.devkit.webhooks.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Posts notifications to Slack incoming webhooks. The recipient is the webhook URL, so any
+ * local HTTP endpoint can stand in for Slack in tests.
+ */
+@Component
+public class SlackNotificationChannel implements NotificationChannel {
+
+    private final ObjectMapper objectMapper;
+    private final NotificationProperties properties;
+    private final HttpClient httpClient;
+
+    public SlackNotificationChannel(ObjectMapper objectMapper, NotificationProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(properties.getSlack().getTimeout())
+            .build();
+    }
+
+    @Override
+    public String name() {
+        return "slack";
+    }
+
+    @Override
+    public void send(NotificationMessage message) throws IOException, InterruptedException {
+        String text = message.subject().isBlank()
+            ? message.body()
+            : "*" + message.subject() + "*\n" + message.body();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(message.recipient()))
+            .timeout(properties.getSlack().getTimeout())
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("text", text))))
+            .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Slack responded with HTTP " + response.statusCode() + ": " + response.body());
+        }
+    }
+}
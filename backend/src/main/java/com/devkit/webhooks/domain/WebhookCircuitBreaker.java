@@ -0,0 +1,180 @@
+package com.devkit.webhooks.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker for one webhook endpoint.
+ * <p>
+ * While CLOSED, the outcome of the last {@code windowSize} calls is kept; once at least
+ * {@code minimumCalls} are recorded and either the failure rate or the slow-call rate reaches
+ * its threshold, the breaker OPENs and rejects calls for {@code openDuration}. It then lets
+ * {@code halfOpenCalls} trial calls through (HALF_OPEN): if all succeed it closes again,
+ * otherwise it reopens. An endpoint that has not closed for {@code quarantineAfter} is due
+ * for quarantine.
+ */
+public class WebhookCircuitBreaker {
+
+    public enum State {
+        CLOSED,       // Calls pass, outcomes are recorded
+        OPEN,         // Calls are rejected until openUntil
+        HALF_OPEN     // A limited number of trial calls pass
+    }
+
+    private final WebhookCircuitBreakerProperties properties;
+    private final boolean[] failed;
+    private final boolean[] slow;
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failedCount;
+    private int slowCount;
+    private Instant openUntil;
+    private Instant failingSince;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    WebhookCircuitBreaker(WebhookCircuitBreakerProperties properties) {
+        this.properties = properties;
+        this.failed = new boolean[Math.max(1, properties.getWindowSize())];
+        this.slow = new boolean[failed.length];
+    }
+
+    /**
+     * Whether a call may be made now. In HALF_OPEN each permitted call uses up a trial slot.
+     */
+    public synchronized boolean tryAcquire(Instant now) {
+        if (state == State.OPEN && !now.isBefore(openUntil)) {
+            state = State.HALF_OPEN;
+            halfOpenPermits = properties.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Give back a trial slot taken by {@link #tryAcquire} for a call that was never made.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < properties.getHalfOpenCalls() - halfOpenSuccesses) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call.
+     */
+    public synchronized void onResult(boolean success, Duration duration, Instant now) {
+        boolean slowCall = duration.compareTo(properties.getSlowCallThreshold()) >= 0;
+
+        if (state == State.HALF_OPEN) {
+            if (!success || slowCall) {
+                open(now);
+            } else if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // Result of a call started before the breaker opened
+            return;
+        }
+
+        if (recorded == failed.length) {
+            failedCount -= failed[position] ? 1 : 0;
+            slowCount -= slow[position] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[position] = !success;
+        slow[position] = slowCall;
+        failedCount += success ? 0 : 1;
+        slowCount += slowCall ? 1 : 0;
+        position = (position + 1) % failed.length;
+
+        if (recorded >= properties.getMinimumCalls()
+                && (failedCount * 100 >= properties.getFailureRateThreshold() * recorded
+                    || slowCount * 100 >= properties.getSlowCallRateThreshold() * recorded)) {
+            open(now);
+        }
+    }
+
+    /**
+     * When a rejected call should be attempted again. In HALF_OPEN the trial calls are still
+     * in flight, so the call waits as long as it would if they reopened the breaker.
+     */
+    public synchronized Instant retryAt(Instant now) {
+        if (state == State.OPEN && openUntil.isAfter(now)) {
+            return openUntil;
+        }
+        if (state == State.HALF_OPEN) {
+            return now.plus(properties.getOpenDuration());
+        }
+        return now;
+    }
+
+    /**
+     * Whether the endpoint has kept failing, without the breaker closing, for longer than the quarantine period.
+     */
+    public synchronized boolean isQuarantineDue(Instant now) {
+        return failingSince != null
+            && Duration.between(failingSince, now).compareTo(properties.getQuarantineAfter()) >= 0;
+    }
+
+    public synchronized void reset() {
+        close();
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+            state,
+            recorded,
+            recorded == 0 ? 0 : failedCount * 100.0 / recorded,
+            recorded == 0 ? 0 : slowCount * 100.0 / recorded,
+            state == State.OPEN ? openUntil : null,
+            failingSince
+        );
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void open(Instant now) {
+        state = State.OPEN;
+        openUntil = now.plus(properties.getOpenDuration());
+        if (failingSince == null) {
+            failingSince = now;
+        }
+        clearWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        openUntil = null;
+        failingSince = null;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        position = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    public record Snapshot(
+        State state,
+        int bufferedCalls,
+        double failureRate,
+        double slowCallRate,
+        Instant openUntil,
+        Instant failingSince
+    ) {}
+}
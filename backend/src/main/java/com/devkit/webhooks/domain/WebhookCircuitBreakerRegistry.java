@@ -0,0 +1,46 @@
+package com.devkit.webhooks.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one circuit breaker per webhook URL, so webhooks sharing an endpoint share its breaker.
+ * Breaker state is kept in memory on each node.
+ */
+@Component
+public class WebhookCircuitBreakerRegistry {
+
+    private final WebhookCircuitBreakerProperties properties;
+    private final Map<String, WebhookCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+
+    public WebhookCircuitBreakerRegistry(WebhookCircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rejectedCounter = Counter.builder("devkit.webhooks.circuit.rejected")
+            .description("Deliveries parked because the endpoint's circuit was open")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public WebhookCircuitBreaker forUrl(String url) {
+        return breakers.computeIfAbsent(url, u -> new WebhookCircuitBreaker(properties));
+    }
+
+    public void reset(String url) {
+        WebhookCircuitBreaker breaker = breakers.get(url);
+        if (breaker != null) {
+            breaker.reset();
+        }
+    }
+
+    void recordRejected() {
+        rejectedCounter.increment();
+    }
+}
@@ -21,6 +21,8 @@ public class WebhookDeliveryEntity extends BaseEntity {
         TIMEOUT       // Request timed out
     }
 
+    public static final String BATCH_EVENT_TYPE = "BATCH";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false, updatable = false)
@@ -39,6 +41,9 @@ public class WebhookDeliveryEntity extends BaseEntity {
     @Column(name = "payload", columnDefinition = "TEXT")
     private String payload; // JSON payload
 
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount = 1; // Events in the payload; batches carry a JSON array
+
     @Column(name = "response_status_code")
     private Integer responseStatusCode;
 
@@ -96,14 +101,27 @@ public class WebhookDeliveryEntity extends BaseEntity {
         return new WebhookDeliveryEntity(webhook, eventType, eventId, payload, 1);
     }
 
+    public static WebhookDeliveryEntity createBatchDelivery(
+            WebhookEntity webhook,
+            String batchId,
+            String payload,
+            int eventCount) {
+
+        WebhookDeliveryEntity delivery = new WebhookDeliveryEntity(webhook, BATCH_EVENT_TYPE, batchId, payload, 1);
+        delivery.eventCount = eventCount;
+        return delivery;
+    }
+
     public static WebhookDeliveryEntity createRetryDelivery(WebhookDeliveryEntity previous) {
-        return new WebhookDeliveryEntity(
+        WebhookDeliveryEntity retry = new WebhookDeliveryEntity(
             previous.webhook,
             previous.eventType,
             previous.eventId,
             previous.payload,
             previous.attemptNumber + 1
         );
+        retry.eventCount = previous.eventCount;
+        return retry;
     }
 
     public Long getId() {
@@ -138,6 +156,26 @@ public class WebhookDeliveryEntity extends BaseEntity {
         this.nextRetryAt = nextRetryAt;
     }
 
+    /**
+     * Keep the delivery pending but hold it back until the given time.
+     */
+    public void defer(Instant until) {
+        this.status = DeliveryStatus.PENDING;
+        this.nextRetryAt = until;
+    }
+
+    public void clearDeferral() {
+        this.nextRetryAt = null;
+    }
+
+    /**
+     * Close a retrying delivery once its next attempt has been created or abandoned.
+     */
+    public void markRetryDispatched() {
+        this.status = DeliveryStatus.FAILED;
+        this.nextRetryAt = null;
+    }
+
     public boolean isSuccess() {
         return status == DeliveryStatus.DELIVERED;
     }
@@ -169,6 +207,14 @@ public class WebhookDeliveryEntity extends BaseEntity {
         return payload;
     }
 
+    public Integer getEventCount() {
+        return eventCount;
+    }
+
+    public boolean isBatch() {
+        return BATCH_EVENT_TYPE.equals(eventType);
+    }
+
     public Integer getResponseStatusCode() {
         return responseStatusCode;
     }
@@ -0,0 +1,335 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.webhooks.domain.events.WebhookRetryScheduledEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Performs a single webhook delivery for the dispatcher.
+ * The HTTP call is non-blocking and runs outside any transaction; loading the delivery
+ * and recording the outcome each use their own short transaction.
+ */
+@Component
+public class WebhookDeliveryExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDeliveryExecutor.class);
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookHttpClient httpClient;
+    private final WebhookSubscriptionIndex subscriptionIndex;
+    private final WebhookCircuitBreakerRegistry circuitBreakers;
+    private final WebhookDeliveryStats deliveryStats;
+    private final SpringEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxBackoff;
+
+    public WebhookDeliveryExecutor(
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookHttpClient httpClient,
+            WebhookSubscriptionIndex subscriptionIndex,
+            WebhookCircuitBreakerRegistry circuitBreakers,
+            WebhookDeliveryStats deliveryStats,
+            SpringEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${devkit.webhooks.retry.max-backoff:PT1H}") Duration maxBackoff) {
+        this.deliveryRepository = deliveryRepository;
+        this.httpClient = httpClient;
+        this.subscriptionIndex = subscriptionIndex;
+        this.circuitBreakers = circuitBreakers;
+        this.deliveryStats = deliveryStats;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Deliver a pending delivery. The future completes with whether the endpoint accepted it,
+     * once the outcome is recorded on {@code completionExecutor}. Deliveries that are no longer
+     * pending, or parked because the endpoint's circuit is open, are skipped and count as not delivered.
+     */
+    public CompletableFuture<Boolean> execute(Long deliveryId, Executor completionExecutor) {
+        AtomicReference<WebhookCircuitBreaker> permit = new AtomicReference<>();
+        DeliveryRequest request;
+        CompletableFuture<WebhookHttpClient.WebhookHttpResponse> call;
+        long startTime;
+        try {
+            request = transactionTemplate.execute(status -> prepare(deliveryId, permit));
+            if (request == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            startTime = System.currentTimeMillis();
+            call = httpClient.post(request.url(), request.headers(), request.payload(), request.timeout());
+        } catch (RuntimeException e) {
+            // No call was made, so a HALF_OPEN trial slot taken for it must not be lost
+            if (permit.get() != null) {
+                permit.get().release();
+            }
+            throw e;
+        }
+
+        return call
+            .handle((response, error) -> {
+                long durationMillis = System.currentTimeMillis() - startTime;
+                if (request.circuitBreaker() != null) {
+                    request.circuitBreaker().onResult(
+                        !isEndpointFailure(response, error), Duration.ofMillis(durationMillis), Instant.now());
+                }
+                return toOutcome(request, response, error, durationMillis);
+            })
+            .thenApplyAsync(outcome -> {
+                transactionTemplate.executeWithoutResult(status -> complete(deliveryId, outcome));
+                return outcome.delivered();
+            }, completionExecutor);
+    }
+
+    /**
+     * Push a delivery back because its webhook queue was full; the retry poller picks it up again.
+     */
+    public void defer(Long deliveryId) {
+        transactionTemplate.executeWithoutResult(status ->
+            deliveryRepository.findById(deliveryId).ifPresent(delivery -> {
+                Instant until = Instant.now().plusSeconds(delivery.getWebhook().getRetryIntervalSeconds());
+                delivery.defer(until);
+                logger.warn("Webhook queue full, deferred delivery {} until {}", deliveryId, until);
+            })
+        );
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Load a pending delivery and build its request. A circuit breaker permit taken here is
+     * handed to {@code permit}, so the caller can give it back if the transaction fails.
+     */
+    private DeliveryRequest prepare(Long deliveryId, AtomicReference<WebhookCircuitBreaker> permit) {
+        WebhookDeliveryEntity delivery = deliveryRepository.findById(deliveryId).orElse(null);
+        if (delivery == null || delivery.getStatus() != WebhookDeliveryEntity.DeliveryStatus.PENDING) {
+            return null;
+        }
+
+        WebhookEntity webhook = delivery.getWebhook();
+        if (!webhook.isActive()) {
+            delivery.markAsFailed("Webhook is not active");
+            return null;
+        }
+
+        WebhookCircuitBreaker circuitBreaker = null;
+        if (circuitBreakers.isEnabled()) {
+            circuitBreaker = circuitBreakers.forUrl(webhook.getUrl());
+            Instant now = Instant.now();
+            if (!circuitBreaker.tryAcquire(now)) {
+                park(delivery, circuitBreaker.retryAt(now));
+                return null;
+            }
+            permit.set(circuitBreaker);
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("X-Webhook-Event", delivery.getEventType());
+        if (delivery.getEventId() != null) {
+            headers.put("X-Webhook-ID", delivery.getEventId());
+        }
+        headers.put("X-Webhook-Delivery-ID", delivery.getId().toString());
+        if (delivery.isBatch()) {
+            headers.put("X-Webhook-Event-Count", delivery.getEventCount().toString());
+        }
+        headers.put("User-Agent", "ConfigHub-Webhook/1.0");
+
+        // Add signature if secret key is configured
+        if (webhook.getSecretKey() != null && !webhook.getSecretKey().isEmpty()) {
+            headers.put("X-Webhook-Signature", generateSignature(delivery.getPayload(), webhook.getSecretKey()));
+        }
+
+        return new DeliveryRequest(
+            webhook.getId(),
+            webhook.getUrl(),
+            delivery.getPayload(),
+            headers,
+            Duration.ofSeconds(webhook.getTimeoutSeconds()),
+            circuitBreaker
+        );
+    }
+
+    /**
+     * Hold a delivery until the endpoint's circuit lets calls through again, without counting an attempt.
+     */
+    private void park(WebhookDeliveryEntity delivery, Instant until) {
+        delivery.defer(until);
+        circuitBreakers.recordRejected();
+        eventPublisher.publishLocally(new WebhookRetryScheduledEvent(
+            delivery.getId(),
+            delivery.getWebhook().getId(),
+            delivery.getAttemptNumber(),
+            until
+        ));
+        logger.debug("Circuit open for webhook {}, parked delivery {} until {}",
+            delivery.getWebhook().getId(), delivery.getId(), until);
+    }
+
+    /**
+     * Whether a result says the endpoint is unhealthy. Other client errors mean the endpoint
+     * is up but rejected the payload, so they do not trip the breaker.
+     */
+    private boolean isEndpointFailure(WebhookHttpClient.WebhookHttpResponse response, Throwable error) {
+        if (error != null) {
+            return true;
+        }
+        int statusCode = response.statusCode();
+        return statusCode >= 500 || statusCode == 429 || statusCode == 408;
+    }
+
+    private DeliveryOutcome toOutcome(
+            DeliveryRequest request,
+            WebhookHttpClient.WebhookHttpResponse response,
+            Throwable error,
+            long durationMillis) {
+        if (error == null && response.isSuccessful()) {
+            return DeliveryOutcome.success(response.statusCode(), response.body(), response.headers(), durationMillis);
+        }
+        if (error == null) {
+            logger.warn("Webhook delivery failed with HTTP error: {} - {}", request.webhookId(), response.statusCode());
+            return DeliveryOutcome.failure("HTTP " + response.statusCode() + ": " + response.body());
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException || cause instanceof TimeoutException) {
+            logger.warn("Webhook delivery timed out after {}: {}", request.timeout(), request.webhookId());
+            return DeliveryOutcome.timeout("Request timed out after " + request.timeout().toSeconds() + "s");
+        }
+        logger.warn("Webhook delivery failed with connection error: {} - {}", request.webhookId(), cause.toString());
+        return DeliveryOutcome.failure(cause.getMessage() != null ? cause.getMessage() : cause.toString());
+    }
+
+    private void complete(Long deliveryId, DeliveryOutcome outcome) {
+        WebhookDeliveryEntity delivery = deliveryRepository.findById(deliveryId).orElse(null);
+        if (delivery == null) {
+            return;
+        }
+        WebhookEntity webhook = delivery.getWebhook();
+
+        if (outcome.delivered()) {
+            delivery.markAsDelivered(
+                outcome.statusCode(),
+                outcome.responseBody(),
+                outcome.responseHeaders(),
+                outcome.durationMillis()
+            );
+            deliveryStats.recordSuccess(webhook.getId(), outcome.durationMillis());
+
+            logger.info("Successfully delivered webhook: {} for event: {}",
+                webhook.getId(), delivery.getEventType());
+            return;
+        }
+
+        if (outcome.timedOut()) {
+            delivery.markAsTimeout(outcome.errorMessage());
+        } else {
+            delivery.markAsFailed(outcome.errorMessage());
+        }
+        deliveryStats.recordFailure(webhook.getId(), outcome.timedOut());
+        quarantineIfDue(webhook);
+
+        // Schedule retry if applicable
+        if (delivery.shouldRetry(webhook.getMaxRetryAttempts())) {
+            Duration delay = WebhookRetryBackoff.delay(
+                delivery.getAttemptNumber(),
+                Duration.ofSeconds(webhook.getRetryIntervalSeconds()),
+                maxBackoff
+            );
+            Instant nextRetryAt = Instant.now().plus(delay);
+            delivery.scheduleRetry(nextRetryAt);
+            eventPublisher.publishLocally(new WebhookRetryScheduledEvent(
+                delivery.getId(),
+                webhook.getId(),
+                delivery.getAttemptNumber() + 1,
+                nextRetryAt
+            ));
+
+            logger.info("Scheduled retry for webhook: {} at attempt {} in {}",
+                webhook.getId(), delivery.getAttemptNumber() + 1, delay);
+        }
+    }
+
+    /**
+     * Disable a webhook whose endpoint has kept failing for the whole quarantine period.
+     * It stays disabled until it is activated again.
+     */
+    private void quarantineIfDue(WebhookEntity webhook) {
+        if (!circuitBreakers.isEnabled() || !webhook.isActive()) {
+            return;
+        }
+        if (circuitBreakers.forUrl(webhook.getUrl()).isQuarantineDue(Instant.now())) {
+            webhook.disable();
+            subscriptionIndex.refreshAfterCommit();
+            logger.warn("Quarantined webhook {}: endpoint {} has kept failing", webhook.getId(), webhook.getUrl());
+        }
+    }
+
+    /**
+     * Generate HMAC signature for webhook payload.
+     */
+    private String generateSignature(String payload, String secretKey) {
+        try {
+            javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
+            javax.crypto.spec.SecretKeySpec secretKeySpec = new javax.crypto.spec.SecretKeySpec(
+                secretKey.getBytes(), "HmacSHA256"
+            );
+            mac.init(secretKeySpec);
+            byte[] hash = mac.doFinal(payload.getBytes());
+            return "sha256=" + java.util.Base64.getEncoder().encodeToString(hash);
+        } catch (Exception e) {
+            logger.error("Failed to generate signature", e);
+            return "";
+        }
+    }
+
+    // ==================== Record Classes ====================
+
+    private record DeliveryRequest(
+        Long webhookId,
+        String url,
+        String payload,
+        Map<String, String> headers,
+        Duration timeout,
+        WebhookCircuitBreaker circuitBreaker
+    ) {}
+
+    private record DeliveryOutcome(
+        boolean delivered,
+        boolean timedOut,
+        int statusCode,
+        String responseBody,
+        String responseHeaders,
+        long durationMillis,
+        String errorMessage
+    ) {
+        static DeliveryOutcome success(int statusCode, String responseBody, String responseHeaders, long durationMillis) {
+            return new DeliveryOutcome(true, false, statusCode, responseBody, responseHeaders, durationMillis, null);
+        }
+
+        static DeliveryOutcome failure(String errorMessage) {
+            return new DeliveryOutcome(false, false, 0, null, null, 0, errorMessage);
+        }
+
+        static DeliveryOutcome timeout(String errorMessage) {
+            return new DeliveryOutcome(false, true, 0, null, null, 0, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.shared.persistence.PartitionedTable;
+import com.devkit.shared.persistence.TimePartitionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Registers the monthly partitions of {@code webhook_deliveries} for maintenance.
+ * Delivery history older than the retention is dropped a whole month at a time; hourly
+ * statistics are kept in their own rollup table and are not affected.
+ */
+@Component
+public class WebhookDeliveryPartitions {
+
+    private static final int PREMAKE_MONTHS = 3;
+
+    public WebhookDeliveryPartitions(
+            TimePartitionManager partitionManager,
+            @Value("${devkit.webhooks.deliveries.retention:P90D}") Duration retention) {
+        partitionManager.register(new PartitionedTable(
+            "webhook_deliveries",
+            PartitionedTable.PartitionInterval.MONTHLY,
+            PREMAKE_MONTHS,
+            retention.isZero() ? null : retention
+        ));
+    }
+}
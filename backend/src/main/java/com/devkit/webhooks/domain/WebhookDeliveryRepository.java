@@ -1,5 +1,6 @@
 package com.devkit.webhooks.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,11 +15,6 @@ import java.util.List;
 @Repository
 public interface WebhookDeliveryRepository extends JpaRepository<WebhookDeliveryEntity, Long> {
 
-    /**
-     * Find deliveries by webhook ID.
-     */
-    List<WebhookDeliveryEntity> findByWebhookId(Long webhookId);
-
     /**
      * Find deliveries by event ID.
      */
@@ -30,31 +26,90 @@ public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery
     List<WebhookDeliveryEntity> findByStatus(WebhookDeliveryEntity.DeliveryStatus status);
 
     /**
-     * Find pending deliveries that should be retried.
+     * Lock and return up to {@code limit} retries that are due, skipping rows claimed by other nodes.
      */
-    @Query("SELECT d FROM WebhookDeliveryEntity d WHERE d.status = 'RETRYING' AND d.nextRetryAt <= :now")
-    List<WebhookDeliveryEntity> findPendingRetries(@Param("now") Instant now);
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        WHERE status = 'RETRYING' AND next_retry_at <= :now
+        ORDER BY next_retry_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> claimDueRetries(@Param("now") Instant now, @Param("limit") int limit);
 
     /**
-     * Find recent deliveries.
+     * Lock and return up to {@code limit} deferred deliveries that are due, skipping rows claimed by other nodes.
      */
-    @Query("SELECT d FROM WebhookDeliveryEntity d ORDER BY d.createdAt DESC")
-    List<WebhookDeliveryEntity> findRecent();
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        WHERE status = 'PENDING' AND next_retry_at <= :now
+        ORDER BY next_retry_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> claimDeferredDeliveries(@Param("now") Instant now, @Param("limit") int limit);
 
     /**
-     * Count deliveries by status.
+     * Retries due before the given instant, soonest first.
      */
-    long countByStatus(WebhookDeliveryEntity.DeliveryStatus status);
+    @Query("""
+        SELECT d.id AS id, d.nextRetryAt AS nextRetryAt
+        FROM WebhookDeliveryEntity d
+        WHERE d.status = 'RETRYING' AND d.nextRetryAt <= :until
+        ORDER BY d.nextRetryAt
+        """)
+    List<RetrySchedule> findRetrySchedule(@Param("until") Instant until, Pageable pageable);
 
-    /**
-     * Count successful deliveries for a webhook.
-     */
-    @Query("SELECT COUNT(d) FROM WebhookDeliveryEntity d WHERE d.webhook.id = :webhookId AND d.status = 'DELIVERED'")
-    long countSuccessfulDeliveries(@Param("webhookId") Long webhookId);
+    // ==================== Keyset Pagination ====================
+    // Ordered by (created_at, id) descending to match idx_webhook_deliveries_webhook_created and
+    // idx_webhook_deliveries_created; the "after" variants continue strictly past the given row.
+
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        WHERE webhook_id = :webhookId
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> findLatestByWebhook(@Param("webhookId") Long webhookId, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        WHERE webhook_id = :webhookId AND (created_at, id) < (:createdAt, :id)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> findByWebhookBefore(
+        @Param("webhookId") Long webhookId,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> findLatest(@Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM webhook_deliveries
+        WHERE (created_at, id) < (:createdAt, :id)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<WebhookDeliveryEntity> findBefore(
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        @Param("limit") int limit);
 
     /**
-     * Count failed deliveries for a webhook.
+     * Count deliveries by status.
      */
-    @Query("SELECT d.webhook.id, COUNT(d) FROM WebhookDeliveryEntity d WHERE d.status IN ('FAILED', 'TIMEOUT') GROUP BY d.webhook.id")
-    List<Object[]> countFailedDeliveriesByWebhook();
+    long countByStatus(WebhookDeliveryEntity.DeliveryStatus status);
+
+    interface RetrySchedule {
+        Long getId();
+
+        Instant getNextRetryAt();
+    }
 }
@@ -1,19 +1,15 @@
 package com.devkit.webhooks.domain;
 
 import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.shared.persistence.KeysetCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +17,8 @@ import java.util.UUID;
 
 /**
  * Service for delivering webhook events with retry logic.
+ * Deliveries are recorded in the caller's transaction and sent by the {@link WebhookDispatcher}
+ * once it commits.
  */
 @Service
 @Transactional
@@ -30,19 +28,31 @@ public class WebhookDeliveryService {
 
     private final WebhookRepository webhookRepository;
     private final WebhookDeliveryRepository deliveryRepository;
-    private final RestTemplate restTemplate;
+    private final WebhookDeliveryStatsRepository statsRepository;
+    private final WebhookDispatcher dispatcher;
+    private final WebhookSubscriptionIndex subscriptionIndex;
+    private final WebhookCircuitBreakerRegistry circuitBreakers;
+    private final WebhookEventBatcher eventBatcher;
     private final ObjectMapper objectMapper;
     private final SpringEventPublisher eventPublisher;
 
     public WebhookDeliveryService(
             WebhookRepository webhookRepository,
             WebhookDeliveryRepository deliveryRepository,
-            RestTemplate restTemplate,
+            WebhookDeliveryStatsRepository statsRepository,
+            WebhookDispatcher dispatcher,
+            WebhookSubscriptionIndex subscriptionIndex,
+            WebhookCircuitBreakerRegistry circuitBreakers,
+            WebhookEventBatcher eventBatcher,
             ObjectMapper objectMapper,
             SpringEventPublisher eventPublisher) {
         this.webhookRepository = webhookRepository;
         this.deliveryRepository = deliveryRepository;
-        this.restTemplate = restTemplate;
+        this.statsRepository = statsRepository;
+        this.dispatcher = dispatcher;
+        this.subscriptionIndex = subscriptionIndex;
+        this.circuitBreakers = circuitBreakers;
+        this.eventBatcher = eventBatcher;
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
     }
@@ -70,6 +80,7 @@ public class WebhookDeliveryService {
         );
 
         WebhookEntity saved = webhookRepository.save(webhook);
+        subscriptionIndex.refreshAfterCommit();
 
         logger.info("Created webhook: {} for URL: {}", name, url);
 
@@ -96,17 +107,32 @@ public class WebhookDeliveryService {
         webhook.setSecretKey(secretKey);
 
         webhookRepository.save(webhook);
+        subscriptionIndex.refreshAfterCommit();
 
         logger.info("Updated webhook: {}", webhookId);
     }
 
     /**
-     * Activate a webhook.
+     * Enable or disable batching of events for a webhook.
+     */
+    public void configureBatching(Long webhookId, boolean enabled, Integer windowMillis, Integer maxEvents) {
+        WebhookEntity webhook = getWebhook(webhookId);
+        webhook.configureBatching(enabled, windowMillis, maxEvents);
+        webhookRepository.save(webhook);
+        subscriptionIndex.refreshAfterCommit();
+
+        logger.info("Configured batching for webhook: {} (enabled: {})", webhookId, enabled);
+    }
+
+    /**
+     * Activate a webhook. This also lifts a quarantine, so the endpoint's circuit starts closed.
      */
     public void activateWebhook(Long webhookId) {
         WebhookEntity webhook = getWebhook(webhookId);
         webhook.activate();
         webhookRepository.save(webhook);
+        circuitBreakers.reset(webhook.getUrl());
+        subscriptionIndex.refreshAfterCommit();
 
         logger.info("Activated webhook: {}", webhookId);
     }
@@ -118,6 +144,7 @@ public class WebhookDeliveryService {
         WebhookEntity webhook = getWebhook(webhookId);
         webhook.deactivate();
         webhookRepository.save(webhook);
+        subscriptionIndex.refreshAfterCommit();
 
         logger.info("Deactivated webhook: {}", webhookId);
     }
@@ -128,6 +155,7 @@ public class WebhookDeliveryService {
     public void deleteWebhook(Long webhookId) {
         WebhookEntity webhook = getWebhook(webhookId);
         webhookRepository.delete(webhook);
+        subscriptionIndex.refreshAfterCommit();
 
         logger.info("Deleted webhook: {}", webhookId);
     }
@@ -136,33 +164,26 @@ public class WebhookDeliveryService {
 
     /**
      * Trigger an event to all subscribed webhooks.
+     * Webhooks with batching enabled receive the event in their next batch.
      */
     public void triggerEvent(
             WebhookEntity.WebhookEventType eventType,
             String applicationId,
             Map<String, Object> payload) {
 
-        List<WebhookEntity> webhooks = webhookRepository.findByStatus(WebhookEntity.WebhookStatus.ACTIVE);
-
-        for (WebhookEntity webhook : webhooks) {
-            // Filter by application ID if specified
-            if (webhook.getApplicationId() != null &&
-                !webhook.getApplicationId().equals(applicationId)) {
-                continue;
-            }
-
-            // Check if webhook is subscribed to this event
-            if (!webhook.isSubscribedTo(eventType)) {
+        for (Long webhookId : subscriptionIndex.findSubscribers(applicationId, eventType)) {
+            WebhookEventBatcher.BatchPolicy batching = subscriptionIndex.findBatchPolicy(webhookId);
+            if (batching != null) {
+                eventBatcher.add(webhookId, batching, eventPayload(webhookId, eventType.name(), payload));
                 continue;
             }
-
-            // Deliver event asynchronously
-            deliverEvent(webhook, eventType.name(), payload);
+            // Queue delivery for the dispatcher; the reference avoids loading the webhook
+            deliverEvent(webhookRepository.getReferenceById(webhookId), eventType.name(), payload);
         }
     }
 
     /**
-     * Deliver an event to a specific webhook.
+     * Record a delivery of an event to a specific webhook and queue it for sending.
      */
     public void deliverEvent(
             WebhookEntity webhook,
@@ -170,15 +191,8 @@ public class WebhookDeliveryService {
             Map<String, Object> payload) {
 
         try {
-            // Generate unique event ID
-            String eventId = UUID.randomUUID().toString();
-
-            // Add metadata to payload
-            Map<String, Object> fullPayload = new HashMap<>(payload);
-            fullPayload.put("event_id", eventId);
-            fullPayload.put("event_type", eventType);
-            fullPayload.put("timestamp", Instant.now().toString());
-            fullPayload.put("webhook_id", webhook.getId());
+            Map<String, Object> fullPayload = eventPayload(webhook.getId(), eventType, payload);
+            String eventId = (String) fullPayload.get("event_id");
 
             // Serialize payload
             String payloadJson = objectMapper.writeValueAsString(fullPayload);
@@ -193,8 +207,7 @@ public class WebhookDeliveryService {
 
             deliveryRepository.save(delivery);
 
-            // Execute delivery
-            executeDelivery(delivery);
+            dispatcher.enqueue(webhook.getId(), delivery.getId());
 
         } catch (Exception e) {
             logger.error("Failed to deliver event to webhook: {}", webhook.getId(), e);
@@ -202,161 +215,15 @@ public class WebhookDeliveryService {
     }
 
     /**
-     * Execute a webhook delivery.
+     * Add the event metadata to a payload, with a newly generated event ID.
      */
-    private void executeDelivery(WebhookDeliveryEntity delivery) {
-        WebhookEntity webhook = delivery.getWebhook();
-
-        try {
-            long startTime = System.currentTimeMillis();
-
-            // Prepare headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("X-Webhook-Event", delivery.getEventType());
-            headers.set("X-Webhook-ID", delivery.getEventId());
-            headers.set("X-Webhook-Delivery-ID", delivery.getId().toString());
-            headers.set("User-Agent", "ConfigHub-Webhook/1.0");
-
-            // Add signature if secret key is configured
-            if (webhook.getSecretKey() != null && !webhook.getSecretKey().isEmpty()) {
-                String signature = generateSignature(delivery.getPayload(), webhook.getSecretKey());
-                headers.set("X-Webhook-Signature", signature);
-            }
-
-            // Create request
-            HttpEntity<String> request = new HttpEntity<>(delivery.getPayload(), headers);
-
-            // Execute request
-            ResponseEntity<String> response = restTemplate.exchange(
-                webhook.getUrl(),
-                HttpMethod.POST,
-                request,
-                String.class
-            );
-
-            long duration = System.currentTimeMillis() - startTime;
-
-            // Mark as delivered
-            delivery.markAsDelivered(
-                response.getStatusCode().value(),
-                response.getBody(),
-                response.getHeaders().toString(),
-                duration
-            );
-
-            // Update webhook stats
-            webhook.recordSuccess();
-
-            deliveryRepository.save(delivery);
-            webhookRepository.save(webhook);
-
-            logger.info("Successfully delivered webhook: {} for event: {}",
-                webhook.getId(), delivery.getEventType());
-
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            // HTTP error (4xx, 5xx)
-            delivery.markAsFailed(e.getMessage());
-            deliveryRepository.save(delivery);
-            webhook.recordFailure();
-            webhookRepository.save(webhook);
-
-            logger.warn("Webhook delivery failed with HTTP error: {} - {}",
-                webhook.getId(), e.getMessage());
-
-            // Schedule retry if applicable
-            if (delivery.shouldRetry(webhook.getMaxRetryAttempts())) {
-                scheduleRetry(delivery, webhook);
-            }
-
-        } catch (ResourceAccessException e) {
-            // Connection timeout, DNS error, etc.
-            delivery.markAsFailed(e.getMessage());
-            deliveryRepository.save(delivery);
-            webhook.recordFailure();
-            webhookRepository.save(webhook);
-
-            logger.warn("Webhook delivery failed with connection error: {} - {}",
-                webhook.getId(), e.getMessage());
-
-            // Schedule retry if applicable
-            if (delivery.shouldRetry(webhook.getMaxRetryAttempts())) {
-                scheduleRetry(delivery, webhook);
-            }
-
-        } catch (Exception e) {
-            // Other errors
-            delivery.markAsFailed(e.getMessage());
-            deliveryRepository.save(delivery);
-            webhook.recordFailure();
-            webhookRepository.save(webhook);
-
-            logger.error("Webhook delivery failed: {}", webhook.getId(), e);
-
-            // Schedule retry if applicable
-            if (delivery.shouldRetry(webhook.getMaxRetryAttempts())) {
-                scheduleRetry(delivery, webhook);
-            }
-        }
-    }
-
-    /**
-     * Schedule a retry for a failed delivery.
-     */
-    private void scheduleRetry(WebhookDeliveryEntity failedDelivery, WebhookEntity webhook) {
-        Instant nextRetryAt = Instant.now().plusSeconds(webhook.getRetryIntervalSeconds());
-
-        failedDelivery.scheduleRetry(nextRetryAt);
-        deliveryRepository.save(failedDelivery);
-
-        logger.info("Scheduled retry for webhook: {} at attempt {}",
-            webhook.getId(), failedDelivery.getAttemptNumber() + 1);
-    }
-
-    /**
-     * Generate HMAC signature for webhook payload.
-     */
-    private String generateSignature(String payload, String secretKey) {
-        try {
-            javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
-            javax.crypto.spec.SecretKeySpec secretKeySpec = new javax.crypto.spec.SecretKeySpec(
-                secretKey.getBytes(), "HmacSHA256"
-            );
-            mac.init(secretKeySpec);
-            byte[] hash = mac.doFinal(payload.getBytes());
-            return "sha256=" + java.util.Base64.getEncoder().encodeToString(hash);
-        } catch (Exception e) {
-            logger.error("Failed to generate signature", e);
-            return "";
-        }
-    }
-
-    // ==================== Retry Processing ====================
-
-    /**
-     * Process pending retries (scheduled task).
-     */
-    @Scheduled(fixedDelay = 60000) // Every minute
-    public void processPendingRetries() {
-        List<WebhookDeliveryEntity> pendingDeliveries = deliveryRepository.findPendingRetries(Instant.now());
-
-        logger.info("Processing {} pending webhook retries", pendingDeliveries.size());
-
-        for (WebhookDeliveryEntity delivery : pendingDeliveries) {
-            WebhookEntity webhook = delivery.getWebhook();
-
-            // Skip if webhook is disabled
-            if (!webhook.isActive()) {
-                continue;
-            }
-
-            // Create retry delivery
-            WebhookDeliveryEntity retryDelivery = WebhookDeliveryEntity.createRetryDelivery(delivery);
-            deliveryRepository.save(retryDelivery);
-
-            // Execute retry
-            executeDelivery(retryDelivery);
-        }
+    private Map<String, Object> eventPayload(Long webhookId, String eventType, Map<String, Object> payload) {
+        Map<String, Object> fullPayload = new HashMap<>(payload);
+        fullPayload.put("event_id", UUID.randomUUID().toString());
+        fullPayload.put("event_type", eventType);
+        fullPayload.put("timestamp", Instant.now().toString());
+        fullPayload.put("webhook_id", webhookId);
+        return fullPayload;
     }
 
     // ==================== Query Methods ====================
@@ -376,12 +243,26 @@ public class WebhookDeliveryService {
         return webhookRepository.findByStatus(WebhookEntity.WebhookStatus.ACTIVE);
     }
 
-    public List<WebhookDeliveryEntity> getWebhookDeliveries(Long webhookId) {
-        return deliveryRepository.findByWebhookId(webhookId);
+    /**
+     * Deliveries of a webhook, newest first, starting after {@code cursor} (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public List<WebhookDeliveryEntity> getWebhookDeliveries(Long webhookId, KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return deliveryRepository.findLatestByWebhook(webhookId, limit);
+        }
+        return deliveryRepository.findByWebhookBefore(webhookId, cursor.createdAt(), cursor.longId(), limit);
     }
 
-    public List<WebhookDeliveryEntity> getRecentDeliveries() {
-        return deliveryRepository.findRecent();
+    /**
+     * Deliveries across all webhooks, newest first, starting after {@code cursor} (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public List<WebhookDeliveryEntity> getRecentDeliveries(KeysetCursor cursor, int limit) {
+        if (cursor == null) {
+            return deliveryRepository.findLatest(limit);
+        }
+        return deliveryRepository.findBefore(cursor.createdAt(), cursor.longId(), limit);
     }
 
     /**
@@ -397,9 +278,35 @@ public class WebhookDeliveryService {
 
         WebhookDeliveryEntity retryDelivery = WebhookDeliveryEntity.createRetryDelivery(delivery);
         deliveryRepository.save(retryDelivery);
-        executeDelivery(retryDelivery);
+        dispatcher.enqueue(delivery.getWebhook().getId(), retryDelivery.getId());
     }
 
+    // ==================== Circuit Breaker ====================
+
+    /**
+     * Circuit breaker state of the webhook's endpoint on this node.
+     */
+    @Transactional(readOnly = true)
+    public WebhookCircuitBreaker.Snapshot getCircuitBreaker(Long webhookId) {
+        return circuitBreakers.forUrl(getWebhook(webhookId).getUrl()).snapshot();
+    }
+
+    /**
+     * Close the circuit of the webhook's endpoint so deliveries are attempted again.
+     */
+    @Transactional(readOnly = true)
+    public void resetCircuitBreaker(Long webhookId) {
+        WebhookEntity webhook = getWebhook(webhookId);
+        circuitBreakers.reset(webhook.getUrl());
+
+        logger.info("Reset circuit breaker for webhook: {}", webhookId);
+    }
+
+    /**
+     * Statistics overview. Delivery totals come from the hourly rollups, which lag behind
+     * by up to one stats flush interval.
+     */
+    @Transactional(readOnly = true)
     public WebhookStatsDTO getStatistics() {
         long activeCount = webhookRepository.countByStatus(WebhookEntity.WebhookStatus.ACTIVE);
         long inactiveCount = webhookRepository.countByStatus(WebhookEntity.WebhookStatus.INACTIVE);
@@ -407,8 +314,7 @@ public class WebhookDeliveryService {
 
         long pendingDeliveries = deliveryRepository.countByStatus(WebhookDeliveryEntity.DeliveryStatus.PENDING);
         long retryingDeliveries = deliveryRepository.countByStatus(WebhookDeliveryEntity.DeliveryStatus.RETRYING);
-        long deliveredCount = deliveryRepository.countByStatus(WebhookDeliveryEntity.DeliveryStatus.DELIVERED);
-        long failedCount = deliveryRepository.countByStatus(WebhookDeliveryEntity.DeliveryStatus.FAILED);
+        WebhookDeliveryStatsRepository.DeliveryTotals totals = statsRepository.findTotals();
 
         return new WebhookStatsDTO(
             activeCount,
@@ -416,11 +322,20 @@ public class WebhookDeliveryService {
             disabledCount,
             pendingDeliveries,
             retryingDeliveries,
-            deliveredCount,
-            failedCount
+            totals.getDelivered(),
+            totals.getFailed()
         );
     }
 
+    /**
+     * Hourly delivery statistics of a webhook over the last {@code hours} hours, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<WebhookDeliveryStatsEntity> getHourlyStatistics(Long webhookId, int hours) {
+        Instant since = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(Math.max(0, hours - 1), ChronoUnit.HOURS);
+        return statsRepository.findByWebhookSince(webhookId, since);
+    }
+
     // ==================== Record Classes ====================
 
     public record WebhookStatsDTO(
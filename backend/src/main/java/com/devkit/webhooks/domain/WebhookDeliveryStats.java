@@ -0,0 +1,244 @@
+package com.devkit.webhooks.domain;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates delivery outcomes in memory and flushes them periodically, instead of updating
+ * the webhook row on every delivery.
+ * <p>
+ * Counters are striped ({@link LongAdder}) so concurrent deliveries do not contend. Each flush
+ * adds them to the webhook's totals and to the hourly rollup in one atomic statement each.
+ * Counters are drained before the flush transaction and added back if it fails, so a failed
+ * flush is retried by the next one. Outcomes recorded since the last flush are lost if the
+ * node stops abruptly.
+ */
+@Component
+public class WebhookDeliveryStats {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDeliveryStats.class);
+
+    private final WebhookRepository webhookRepository;
+    private final WebhookDeliveryStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, WebhookCounters> webhooks = new ConcurrentHashMap<>();
+    private final Map<HourKey, HourCounters> hours = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public WebhookDeliveryStats(
+            WebhookRepository webhookRepository,
+            WebhookDeliveryStatsRepository statsRepository,
+            PlatformTransactionManager transactionManager) {
+        this.webhookRepository = webhookRepository;
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void recordSuccess(Long webhookId, long durationMillis) {
+        Instant now = Instant.now();
+        WebhookCounters counters = webhooks.computeIfAbsent(webhookId, id -> new WebhookCounters());
+        counters.delivered.increment();
+        counters.failuresSinceSuccess.set(0);
+        counters.lastSuccessAt.accumulateAndGet(now.toEpochMilli(), Math::max);
+
+        HourCounters hour = hour(webhookId, now);
+        hour.delivered.increment();
+        hour.totalDuration.add(durationMillis);
+        hour.maxDuration.accumulate(durationMillis);
+    }
+
+    public void recordFailure(Long webhookId, boolean timedOut) {
+        Instant now = Instant.now();
+        WebhookCounters counters = webhooks.computeIfAbsent(webhookId, id -> new WebhookCounters());
+        counters.failed.increment();
+        counters.failuresSinceSuccess.incrementAndGet();
+        counters.lastFailureAt.accumulateAndGet(now.toEpochMilli(), Math::max);
+
+        HourCounters hour = hour(webhookId, now);
+        hour.failed.increment();
+        if (timedOut) {
+            hour.timedOut.increment();
+        }
+    }
+
+    /**
+     * Write accumulated counters to the database.
+     */
+    @Scheduled(fixedDelayString = "${devkit.webhooks.stats.flush-interval:PT10S}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<WebhookDelta> webhookDeltas = new ArrayList<>();
+            webhooks.forEach((webhookId, counters) -> drainWebhook(webhookId, counters, webhookDeltas));
+            List<HourDelta> hourDeltas = new ArrayList<>();
+            hours.forEach((key, counters) -> drainHour(key, counters, hourDeltas));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    webhookDeltas.forEach(this::writeWebhook);
+                    hourDeltas.forEach(this::writeHour);
+                });
+            } catch (RuntimeException e) {
+                webhookDeltas.forEach(WebhookDelta::restore);
+                hourDeltas.forEach(HourDelta::restore);
+                logger.error("Failed to flush webhook delivery statistics, keeping them for the next flush", e);
+                return;
+            }
+            evictPastHours();
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private HourCounters hour(Long webhookId, Instant now) {
+        return hours.computeIfAbsent(new HourKey(webhookId, now.truncatedTo(ChronoUnit.HOURS)), key -> new HourCounters());
+    }
+
+    /**
+     * Counters are drained with {@code sumThenReset}; increments racing with the flush are kept for the next one.
+     */
+    private void drainWebhook(Long webhookId, WebhookCounters counters, List<WebhookDelta> deltas) {
+        long delivered = counters.delivered.sumThenReset();
+        long failed = counters.failed.sumThenReset();
+        if (delivered == 0 && failed == 0) {
+            return;
+        }
+        // The database holds the failure streak from here on, so only new failures are counted
+        int failuresSinceSuccess = counters.failuresSinceSuccess.getAndSet(0);
+        deltas.add(new WebhookDelta(webhookId, counters, delivered, failed, failuresSinceSuccess));
+    }
+
+    private void drainHour(HourKey key, HourCounters counters, List<HourDelta> deltas) {
+        long delivered = counters.delivered.sumThenReset();
+        long failed = counters.failed.sumThenReset();
+        long timedOut = counters.timedOut.sumThenReset();
+        long totalDuration = counters.totalDuration.sumThenReset();
+        long maxDuration = counters.maxDuration.getThenReset();
+        if (delivered == 0 && failed == 0) {
+            return;
+        }
+        deltas.add(new HourDelta(key, counters, delivered, failed, timedOut, totalDuration, maxDuration));
+    }
+
+    private void writeWebhook(WebhookDelta delta) {
+        webhookRepository.addDeliveryCounters(
+            delta.webhookId(),
+            delta.delivered(),
+            delta.failed(),
+            delta.failuresSinceSuccess(),
+            Instant.ofEpochMilli(delta.counters().lastSuccessAt.get()),
+            Instant.ofEpochMilli(delta.counters().lastFailureAt.get())
+        );
+    }
+
+    private void writeHour(HourDelta delta) {
+        statsRepository.addCounters(
+            delta.key().webhookId(),
+            delta.key().hourStart(),
+            delta.delivered(),
+            delta.failed(),
+            delta.timedOut(),
+            delta.totalDuration(),
+            delta.maxDuration()
+        );
+    }
+
+    /**
+     * Drop counters of hours that ended before the previous one; nothing records into them any more.
+     */
+    private void evictPastHours() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(1, ChronoUnit.HOURS);
+        hours.keySet().removeIf(key -> key.hourStart().isBefore(cutoff));
+    }
+
+    private record HourKey(Long webhookId, Instant hourStart) {}
+
+    /**
+     * Counts drained from a webhook's counters for one flush.
+     */
+    private record WebhookDelta(
+        Long webhookId,
+        WebhookCounters counters,
+        long delivered,
+        long failed,
+        int failuresSinceSuccess
+    ) {
+
+        /**
+         * Add the counts back after a failed flush. The drained failure streak only still applies
+         * if no delivery has succeeded since; {@code recordSuccess} resets the streak after
+         * counting the success, so checking the count first is safe.
+         */
+        void restore() {
+            if (counters.delivered.sum() == 0) {
+                counters.failuresSinceSuccess.addAndGet(failuresSinceSuccess);
+            }
+            counters.delivered.add(delivered);
+            counters.failed.add(failed);
+        }
+    }
+
+    /**
+     * Counts drained from an hour's counters for one flush.
+     */
+    private record HourDelta(
+        HourKey key,
+        HourCounters counters,
+        long delivered,
+        long failed,
+        long timedOut,
+        long totalDuration,
+        long maxDuration
+    ) {
+
+        void restore() {
+            counters.delivered.add(delivered);
+            counters.failed.add(failed);
+            counters.timedOut.add(timedOut);
+            counters.totalDuration.add(totalDuration);
+            counters.maxDuration.accumulate(maxDuration);
+        }
+    }
+
+    private static final class WebhookCounters {
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final AtomicInteger failuresSinceSuccess = new AtomicInteger();
+        private final AtomicLong lastSuccessAt = new AtomicLong();
+        private final AtomicLong lastFailureAt = new AtomicLong();
+    }
+
+    private static final class HourCounters {
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder totalDuration = new LongAdder();
+        private final LongAccumulator maxDuration = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Delivery counters of a webhook for one hour.
+ * Rows are only mutated through the atomic upsert in {@link WebhookDeliveryStatsRepository}.
+ */
+@Entity
+@Table(name = "webhook_delivery_stats_hourly")
+@IdClass(WebhookDeliveryStatsEntity.Key.class)
+public class WebhookDeliveryStatsEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "webhook_id", nullable = false, updatable = false)
+    private Long webhookId;
+
+    @Id
+    @Column(name = "hour_start", nullable = false, updatable = false)
+    private Instant hourStart;
+
+    @Column(name = "delivered_count", nullable = false)
+    private Long deliveredCount = 0L;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount = 0L; // Includes timeouts
+
+    @Column(name = "timeout_count", nullable = false)
+    private Long timeoutCount = 0L;
+
+    @Column(name = "total_duration_ms", nullable = false)
+    private Long totalDurationMillis = 0L; // Of successful deliveries
+
+    @Column(name = "max_duration_ms", nullable = false)
+    private Long maxDurationMillis = 0L;
+
+    // Protected no-arg constructor for JPA
+    protected WebhookDeliveryStatsEntity() {}
+
+    // Getters
+    public Long getWebhookId() {
+        return webhookId;
+    }
+
+    public Instant getHourStart() {
+        return hourStart;
+    }
+
+    public Long getDeliveredCount() {
+        return deliveredCount;
+    }
+
+    public Long getFailedCount() {
+        return failedCount;
+    }
+
+    public Long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public Long getTotalDurationMillis() {
+        return totalDurationMillis;
+    }
+
+    public Long getMaxDurationMillis() {
+        return maxDurationMillis;
+    }
+
+    public long getAverageDurationMillis() {
+        return deliveredCount > 0 ? totalDurationMillis / deliveredCount : 0;
+    }
+
+    public static class Key implements Serializable {
+        private Long webhookId;
+        private Instant hourStart;
+
+        protected Key() {}
+
+        public Key(Long webhookId, Instant hourStart) {
+            this.webhookId = webhookId;
+            this.hourStart = hourStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(webhookId, key.webhookId) && Objects.equals(hourStart, key.hourStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(webhookId, hourStart);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.devkit.webhooks.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for the hourly webhook delivery rollups.
+ */
+@Repository
+public interface WebhookDeliveryStatsRepository
+        extends JpaRepository<WebhookDeliveryStatsEntity, WebhookDeliveryStatsEntity.Key> {
+
+    /**
+     * Atomically add counters to an hour's rollup, creating the row if needed.
+     * Nothing is written when the webhook no longer exists.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "webhook_delivery_stats_hourly"))
+    @Query(value = """
+        INSERT INTO webhook_delivery_stats_hourly (
+            webhook_id, hour_start, delivered_count, failed_count, timeout_count,
+            total_duration_ms, max_duration_ms, created_at, updated_at)
+        SELECT w.id, :hourStart, :delivered, :failed, :timedOut, :totalDuration, :maxDuration,
+               CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM webhooks w
+        WHERE w.id = :webhookId
+        ON CONFLICT (webhook_id, hour_start) DO UPDATE SET
+            delivered_count = webhook_delivery_stats_hourly.delivered_count + EXCLUDED.delivered_count,
+            failed_count = webhook_delivery_stats_hourly.failed_count + EXCLUDED.failed_count,
+            timeout_count = webhook_delivery_stats_hourly.timeout_count + EXCLUDED.timeout_count,
+            total_duration_ms = webhook_delivery_stats_hourly.total_duration_ms + EXCLUDED.total_duration_ms,
+            max_duration_ms = GREATEST(webhook_delivery_stats_hourly.max_duration_ms, EXCLUDED.max_duration_ms),
+            updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int addCounters(
+        @Param("webhookId") Long webhookId,
+        @Param("hourStart") Instant hourStart,
+        @Param("delivered") long delivered,
+        @Param("failed") long failed,
+        @Param("timedOut") long timedOut,
+        @Param("totalDuration") long totalDuration,
+        @Param("maxDuration") long maxDuration);
+
+    /**
+     * Hourly rollups of a webhook since the given hour, oldest first.
+     */
+    @Query("""
+        SELECT s FROM WebhookDeliveryStatsEntity s
+        WHERE s.webhookId = :webhookId AND s.hourStart >= :since
+        ORDER BY s.hourStart
+        """)
+    List<WebhookDeliveryStatsEntity> findByWebhookSince(
+        @Param("webhookId") Long webhookId,
+        @Param("since") Instant since);
+
+    /**
+     * Totals across all webhooks and hours.
+     */
+    @Query("""
+        SELECT COALESCE(SUM(s.deliveredCount), 0) AS delivered, COALESCE(SUM(s.failedCount), 0) AS failed
+        FROM WebhookDeliveryStatsEntity s
+        """)
+    DeliveryTotals findTotals();
+
+    interface DeliveryTotals {
+        Long getDelivered();
+
+        Long getFailed();
+    }
+}
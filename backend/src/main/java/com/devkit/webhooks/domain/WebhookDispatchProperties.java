@@ -0,0 +1,49 @@
+package com.devkit.webhooks.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for asynchronous webhook dispatch.
+ */
+@Component
+@ConfigurationProperties(prefix = "devkit.webhooks.dispatch")
+public class WebhookDispatchProperties {
+
+    private int workerThreads = 8;
+    private int queueCapacity = 1000;
+    private int maxConcurrencyPerWebhook = 2;
+    private int shutdownTimeoutSeconds = 30;
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxConcurrencyPerWebhook() {
+        return maxConcurrencyPerWebhook;
+    }
+
+    public void setMaxConcurrencyPerWebhook(int maxConcurrencyPerWebhook) {
+        this.maxConcurrencyPerWebhook = maxConcurrencyPerWebhook;
+    }
+
+    public int getShutdownTimeoutSeconds() {
+        return shutdownTimeoutSeconds;
+    }
+
+    public void setShutdownTimeoutSeconds(int shutdownTimeoutSeconds) {
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+    }
+}
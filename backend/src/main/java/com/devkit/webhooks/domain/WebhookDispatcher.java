@@ -0,0 +1,222 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.webhooks.domain.events.WebhookSubscriptionsReloadedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands webhook deliveries to a worker pool so that publishers never wait on subscriber endpoints.
+ * Workers only do the database work around a delivery; the request itself is non-blocking.
+ * Each webhook has a bounded queue and a limit on concurrent deliveries, so one slow endpoint
+ * cannot take over the pool. Deliveries enqueued inside a transaction are only queued after commit.
+ * The queue and gauges of a webhook are dropped once it is deactivated or deleted.
+ */
+@Component
+public class WebhookDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    private final WebhookDeliveryExecutor deliveryExecutor;
+    private final WebhookDispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor workers;
+    private final Map<Long, EndpointQueue> queues = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+    private final Timer deliveredTimer;
+    private final Timer failedTimer;
+
+    public WebhookDispatcher(
+            WebhookDeliveryExecutor deliveryExecutor,
+            WebhookDispatchProperties properties,
+            MeterRegistry meterRegistry) {
+        this.deliveryExecutor = deliveryExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(properties.getWorkerThreads());
+        this.workers.setMaxPoolSize(properties.getWorkerThreads());
+        this.workers.setThreadNamePrefix("webhook-dispatch-");
+        this.workers.setWaitForTasksToCompleteOnShutdown(true);
+        this.workers.setAwaitTerminationSeconds(properties.getShutdownTimeoutSeconds());
+        this.workers.initialize();
+
+        this.rejectedCounter = Counter.builder("devkit.webhooks.dispatch.rejected")
+            .description("Deliveries deferred because the webhook queue was full")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("devkit.webhooks.dispatch.queue.wait")
+            .description("Time deliveries spend queued before a worker picks them up")
+            .register(meterRegistry);
+        this.deliveredTimer = deliveryTimer("delivered");
+        this.failedTimer = deliveryTimer("failed");
+    }
+
+    /**
+     * Queue a delivery for its webhook, after commit when a transaction is active.
+     */
+    public void enqueue(Long webhookId, Long deliveryId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(webhookId, deliveryId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(webhookId, deliveryId);
+            }
+        });
+    }
+
+    /**
+     * Drop the queues and gauges of webhooks that are no longer active. Deliveries already
+     * queued or in flight still complete; they re-check the webhook status before sending.
+     */
+    @EventListener
+    public void onSubscriptionsReloaded(WebhookSubscriptionsReloadedEvent event) {
+        for (Map.Entry<Long, EndpointQueue> entry : queues.entrySet()) {
+            if (!event.activeWebhookIds().contains(entry.getKey())) {
+                // Gauges first, so a queue created again for the webhook registers its own
+                meterRegistry.remove(entry.getValue().depthGauge);
+                meterRegistry.remove(entry.getValue().inFlightGauge);
+                queues.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void offer(Long webhookId, Long deliveryId) {
+        EndpointQueue endpoint = queues.computeIfAbsent(webhookId, this::createQueue);
+        if (!endpoint.deliveries.offer(new QueuedDelivery(deliveryId, System.nanoTime()))) {
+            rejectedCounter.increment();
+            try {
+                deliveryExecutor.defer(deliveryId);
+            } catch (RuntimeException e) {
+                logger.error("Failed to defer webhook delivery {}", deliveryId, e);
+            }
+            return;
+        }
+        drain(endpoint);
+    }
+
+    /**
+     * Start as many queued deliveries as the webhook's concurrency limit allows.
+     */
+    private void drain(EndpointQueue endpoint) {
+        while (true) {
+            int inFlight = endpoint.inFlight.get();
+            if (inFlight >= properties.getMaxConcurrencyPerWebhook()) {
+                return;
+            }
+            if (!endpoint.inFlight.compareAndSet(inFlight, inFlight + 1)) {
+                continue;
+            }
+            QueuedDelivery next = endpoint.deliveries.poll();
+            if (next == null) {
+                endpoint.inFlight.decrementAndGet();
+                // A delivery may have been offered between the poll and the decrement
+                if (endpoint.deliveries.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                workers.execute(() -> run(endpoint, next));
+            } catch (RuntimeException e) {
+                endpoint.inFlight.decrementAndGet();
+                logger.warn("Webhook worker pool rejected delivery {}: {}", next.deliveryId(), e.getMessage());
+                deliveryExecutor.defer(next.deliveryId());
+                return;
+            }
+        }
+    }
+
+    private void run(EndpointQueue endpoint, QueuedDelivery queued) {
+        queueWaitTimer.record(System.nanoTime() - queued.enqueuedAt(), TimeUnit.NANOSECONDS);
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> result;
+        try {
+            result = deliveryExecutor.execute(queued.deliveryId(), workers);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        // The worker is released here; the slot is freed once the response is recorded
+        result.whenComplete((delivered, error) -> {
+            if (error != null) {
+                logger.error("Webhook delivery {} failed unexpectedly", queued.deliveryId(), error);
+            }
+            Timer timer = Boolean.TRUE.equals(delivered) ? deliveredTimer : failedTimer;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endpoint.inFlight.decrementAndGet();
+            drain(endpoint);
+        });
+    }
+
+    private EndpointQueue createQueue(Long webhookId) {
+        Queue<QueuedDelivery> deliveries = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge depthGauge = Gauge.builder("devkit.webhooks.dispatch.queue.depth", deliveries, Queue::size)
+            .description("Deliveries waiting for a worker")
+            .tag("webhook", webhookId.toString())
+            .register(meterRegistry);
+        Gauge inFlightGauge = Gauge.builder("devkit.webhooks.dispatch.in-flight", inFlight, AtomicInteger::get)
+            .description("Deliveries currently being sent")
+            .tag("webhook", webhookId.toString())
+            .register(meterRegistry);
+        return new EndpointQueue(deliveries, inFlight, depthGauge, inFlightGauge);
+    }
+
+    private Timer deliveryTimer(String outcome) {
+        return Timer.builder("devkit.webhooks.delivery.latency")
+            .description("Time to deliver a webhook, including recording the outcome")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private record QueuedDelivery(Long deliveryId, long enqueuedAt) {}
+
+    private static final class EndpointQueue {
+        private final Queue<QueuedDelivery> deliveries;
+        private final AtomicInteger inFlight;
+        private final Gauge depthGauge;
+        private final Gauge inFlightGauge;
+
+        private EndpointQueue(
+                Queue<QueuedDelivery> deliveries,
+                AtomicInteger inFlight,
+                Gauge depthGauge,
+                Gauge inFlightGauge) {
+            this.deliveries = deliveries;
+            this.inFlight = inFlight;
+            this.depthGauge = depthGauge;
+            this.inFlightGauge = inFlightGauge;
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class WebhookEntity extends BaseEntity {
     public enum WebhookStatus {
         ACTIVE,       // Webhook is active and receiving events
         INACTIVE,     // Webhook is paused
-        DISABLED      // Webhook is disabled due to repeated failures
+        DISABLED      // Webhook is quarantined after its endpoint kept failing
     }
 
     public enum WebhookEventType {
@@ -90,6 +90,15 @@ public class WebhookEntity extends BaseEntity {
     @Column(name = "failed_deliveries", nullable = false)
     private Long failedDeliveries = 0L;
 
+    @Column(name = "batch_enabled", nullable = false)
+    private boolean batchEnabled = false; // Coalesce events into array payloads
+
+    @Column(name = "batch_window_ms", nullable = false)
+    private Integer batchWindowMillis = 1000;
+
+    @Column(name = "batch_max_events", nullable = false)
+    private Integer batchMaxEvents = 100;
+
     // Associations
     @OneToMany(mappedBy = "webhook", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<WebhookDeliveryEntity> deliveries = new ArrayList<>();
@@ -161,27 +170,17 @@ public class WebhookEntity extends BaseEntity {
         this.status = WebhookStatus.DISABLED;
     }
 
-    public void recordSuccess() {
-        this.lastSuccessAt = Instant.now();
-        this.failureCount = 0;
-        this.successfulDeliveries++;
-        this.totalDeliveries++;
-
-        // Auto-reactivate if was disabled and now succeeding
-        if (this.status == WebhookStatus.DISABLED) {
-            this.status = WebhookStatus.ACTIVE;
+    /**
+     * Gather events for up to {@code windowMillis}, or until {@code maxEvents} are buffered,
+     * and deliver them as one array payload.
+     */
+    public void configureBatching(boolean enabled, Integer windowMillis, Integer maxEvents) {
+        this.batchEnabled = enabled;
+        if (windowMillis != null) {
+            this.batchWindowMillis = AssertUtil.requirePositive(windowMillis, "Batch window must be positive");
         }
-    }
-
-    public void recordFailure() {
-        this.lastFailureAt = Instant.now();
-        this.failureCount++;
-        this.failedDeliveries++;
-        this.totalDeliveries++;
-
-        // Auto-disable if too many failures
-        if (this.failureCount >= this.maxRetryAttempts) {
-            this.status = WebhookStatus.DISABLED;
+        if (maxEvents != null) {
+            this.batchMaxEvents = AssertUtil.requirePositive(maxEvents, "Batch size must be positive");
         }
     }
 
@@ -266,6 +265,18 @@ public class WebhookEntity extends BaseEntity {
         return failedDeliveries;
     }
 
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public Integer getBatchWindowMillis() {
+        return batchWindowMillis;
+    }
+
+    public Integer getBatchMaxEvents() {
+        return batchMaxEvents;
+    }
+
     public List<WebhookDeliveryEntity> getDeliveries() {
         return deliveries;
     }
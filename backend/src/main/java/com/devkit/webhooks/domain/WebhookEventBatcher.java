@@ -0,0 +1,167 @@
+package com.devkit.webhooks.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces events for webhooks with batching enabled into a single delivery.
+ * <p>
+ * The first event for a webhook opens a batch that is sent when its window ends or when it
+ * reaches the webhook's maximum size, whichever comes first. The batch is delivered as one
+ * JSON array, signed and retried like any other delivery. Events are buffered only after the
+ * transaction that raised them commits; buffered events are lost if the node stops abruptly,
+ * just like deliveries queued in the dispatcher.
+ */
+@Component
+public class WebhookEventBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookEventBatcher.class);
+
+    private final WebhookRepository webhookRepository;
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService flusher;
+    private final Map<Long, PendingBatch> batches = new ConcurrentHashMap<>();
+
+    public WebhookEventBatcher(
+            WebhookRepository webhookRepository,
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookDispatcher dispatcher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.webhookRepository = webhookRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Add an event to the webhook's open batch, after commit when a transaction is active.
+     */
+    public void add(Long webhookId, BatchPolicy policy, Map<String, Object> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(webhookId, policy, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(webhookId, policy, event);
+            }
+        });
+    }
+
+    /**
+     * Send whatever is buffered before the dispatcher shuts down.
+     */
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        batches.keySet().forEach(webhookId -> {
+            PendingBatch batch = batches.remove(webhookId);
+            if (batch != null) {
+                send(webhookId, batch.events);
+            }
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void append(Long webhookId, BatchPolicy policy, Map<String, Object> event) {
+        PendingBatch[] full = new PendingBatch[1];
+        batches.compute(webhookId, (id, batch) -> {
+            if (batch == null) {
+                PendingBatch opened = new PendingBatch();
+                opened.flushTask = flusher.schedule(
+                    () -> flushIfOpen(id, opened), policy.window().toMillis(), TimeUnit.MILLISECONDS);
+                batch = opened;
+            }
+            batch.events.add(event);
+            if (batch.events.size() >= policy.maxEvents()) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+
+        if (full[0] != null) {
+            PendingBatch batch = full[0];
+            batch.flushTask.cancel(false);
+            flusher.execute(() -> send(webhookId, batch.events));
+        }
+    }
+
+    private void flushIfOpen(Long webhookId, PendingBatch batch) {
+        if (batches.remove(webhookId, batch)) {
+            send(webhookId, batch.events);
+        }
+    }
+
+    /**
+     * Record the batch as one delivery and hand it to the dispatcher.
+     */
+    private void send(Long webhookId, List<Map<String, Object>> events) {
+        try {
+            String payloadJson = objectMapper.writeValueAsString(events);
+            transactionTemplate.executeWithoutResult(status ->
+                webhookRepository.findById(webhookId).ifPresent(webhook -> {
+                    WebhookDeliveryEntity delivery = WebhookDeliveryEntity.createBatchDelivery(
+                        webhook,
+                        UUID.randomUUID().toString(),
+                        payloadJson,
+                        events.size()
+                    );
+                    deliveryRepository.save(delivery);
+                    dispatcher.enqueue(webhookId, delivery.getId());
+                })
+            );
+            logger.debug("Batched {} events for webhook: {}", events.size(), webhookId);
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.error("Failed to deliver batch of {} events to webhook: {}", events.size(), webhookId, e);
+        }
+    }
+
+    /**
+     * How a webhook batches its events.
+     */
+    public record BatchPolicy(Duration window, int maxEvents) {
+
+        static BatchPolicy of(WebhookEntity webhook) {
+            return new BatchPolicy(Duration.ofMillis(webhook.getBatchWindowMillis()), webhook.getBatchMaxEvents());
+        }
+    }
+
+    private static final class PendingBatch {
+        private final List<Map<String, Object>> events = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+    }
+}
@@ -0,0 +1,139 @@
+package com.devkit.webhooks.domain;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking HTTP client for webhook requests, built on the JDK {@link HttpClient}.
+ * Connections are pooled and reused per host, and HTTP/2 is used when the endpoint negotiates it.
+ * Every request has a hard deadline covering connect, response and body, and response bodies
+ * are truncated to a configured size.
+ */
+@Component
+public class WebhookHttpClient {
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final int maxResponseBytes;
+
+    public WebhookHttpClient(WebhookHttpProperties properties) {
+        this.executor = Executors.newFixedThreadPool(
+            properties.getIoThreads(), new CustomizableThreadFactory("webhook-http-"));
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getConnectTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(executor)
+            .build();
+        this.maxResponseBytes = properties.getMaxResponseBytes();
+    }
+
+    /**
+     * Send a POST request. The returned future fails with a timeout once {@code timeout} has passed.
+     */
+    public CompletableFuture<WebhookHttpResponse> post(
+            String url,
+            Map<String, String> headers,
+            String body,
+            Duration timeout) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+            headers.forEach(builder::header);
+
+            return httpClient.sendAsync(builder.build(), responseInfo -> new LimitedBodySubscriber(maxResponseBytes))
+                .thenApply(response -> new WebhookHttpResponse(
+                    response.statusCode(),
+                    response.body(),
+                    response.headers().map().toString()
+                ))
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public record WebhookHttpResponse(int statusCode, String body, String headers) {
+        public boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+    }
+
+    /**
+     * Collects at most {@code maxBytes} of the body, then cancels the stream so the rest is never read.
+     */
+    private static final class LimitedBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final int maxBytes;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        private LimitedBodySubscriber(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            for (ByteBuffer item : items) {
+                int length = Math.min(item.remaining(), maxBytes - buffer.size());
+                if (length > 0) {
+                    byte[] bytes = new byte[length];
+                    item.get(bytes);
+                    buffer.write(bytes, 0, length);
+                }
+                if (item.hasRemaining()) {
+                    subscription.cancel();
+                    onComplete();
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(buffer.toString(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return body;
+        }
+    }
+}
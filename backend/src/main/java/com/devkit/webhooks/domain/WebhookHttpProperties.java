@@ -0,0 +1,43 @@
+package com.devkit.webhooks.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the HTTP client used to send webhooks.
+ * Request timeouts are configured per webhook.
+ */
+@Component
+@ConfigurationProperties(prefix = "devkit.webhooks.http")
+public class WebhookHttpProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private int maxResponseBytes = 64 * 1024;
+    private int ioThreads = 4;
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    public void setMaxResponseBytes(int maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public void setIoThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+    }
+}
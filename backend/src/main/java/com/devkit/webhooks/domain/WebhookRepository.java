@@ -1,10 +1,15 @@
 package com.devkit.webhooks.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +24,12 @@ public interface WebhookRepository extends JpaRepository<WebhookEntity, Long> {
      */
     List<WebhookEntity> findByStatus(WebhookEntity.WebhookStatus status);
 
+    /**
+     * Find webhooks by status with their subscribed events loaded.
+     */
+    @Query("SELECT DISTINCT w FROM WebhookEntity w LEFT JOIN FETCH w.subscribedEvents WHERE w.status = :status")
+    List<WebhookEntity> findByStatusWithSubscribedEvents(@Param("status") WebhookEntity.WebhookStatus status);
+
     /**
      * Find webhooks by application ID.
      */
@@ -45,4 +56,32 @@ public interface WebhookRepository extends JpaRepository<WebhookEntity, Long> {
      * Count webhooks by status.
      */
     long countByStatus(WebhookEntity.WebhookStatus status);
+
+    /**
+     * Atomically add flushed delivery counters to a webhook. {@code failuresSinceSuccess}
+     * replaces the consecutive failure count when a delivery succeeded, and adds to it otherwise.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "webhooks"))
+    @Query(value = """
+        UPDATE webhooks SET
+            total_deliveries = total_deliveries + :delivered + :failed,
+            successful_deliveries = successful_deliveries + :delivered,
+            failed_deliveries = failed_deliveries + :failed,
+            failure_count = CASE WHEN :delivered > 0 THEN :failuresSinceSuccess
+                                 ELSE failure_count + :failuresSinceSuccess END,
+            last_success_at = CASE WHEN :delivered > 0 THEN GREATEST(last_success_at, :lastSuccessAt)
+                                   ELSE last_success_at END,
+            last_failure_at = CASE WHEN :failed > 0 THEN GREATEST(last_failure_at, :lastFailureAt)
+                                   ELSE last_failure_at END,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE id = :webhookId
+        """, nativeQuery = true)
+    int addDeliveryCounters(
+        @Param("webhookId") Long webhookId,
+        @Param("delivered") long delivered,
+        @Param("failed") long failed,
+        @Param("failuresSinceSuccess") int failuresSinceSuccess,
+        @Param("lastSuccessAt") Instant lastSuccessAt,
+        @Param("lastFailureAt") Instant lastFailureAt);
 }
@@ -0,0 +1,29 @@
+package com.devkit.webhooks.domain;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for webhook retries.
+ * The ceiling doubles with every attempt, starting at the webhook's retry interval and capped
+ * at {@code maxBackoff}; the actual delay is picked at random in the upper half of the ceiling
+ * so that deliveries failing together do not retry together.
+ */
+final class WebhookRetryBackoff {
+
+    private static final int MAX_EXPONENT = 20;
+
+    private WebhookRetryBackoff() {
+    }
+
+    /**
+     * Delay before the attempt following {@code attemptNumber}.
+     */
+    static Duration delay(int attemptNumber, Duration baseInterval, Duration maxBackoff) {
+        long base = Math.max(1, baseInterval.toMillis());
+        int exponent = Math.min(Math.max(0, attemptNumber - 1), MAX_EXPONENT);
+        long ceiling = Math.min(maxBackoff.toMillis(), base << exponent);
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
@@ -0,0 +1,152 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.shared.scheduling.TimingWheel;
+import com.devkit.webhooks.domain.events.WebhookRetryScheduledEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends webhook retries when they fall due.
+ * Retries due within the look-ahead horizon are held in a timing wheel, fed by newly scheduled
+ * retries and refilled from the database periodically (and at startup). When one falls due, due
+ * rows are claimed in bounded batches with {@code FOR UPDATE SKIP LOCKED}, so several nodes can
+ * share the work without sending the same retry twice. The periodic poll also catches retries
+ * scheduled on other nodes.
+ */
+@Component
+public class WebhookRetryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookRetryScheduler.class);
+
+    private static final int MAX_TRACKED = 10_000;
+
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final WebhookDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final int batchSize;
+    private final ExecutorService claimExecutor;
+    private final TimingWheel<Long> wheel;
+    private final AtomicBoolean claimRequested = new AtomicBoolean();
+
+    public WebhookRetryScheduler(
+            WebhookDeliveryRepository deliveryRepository,
+            WebhookDispatcher dispatcher,
+            TransactionTemplate transactionTemplate,
+            @Value("${devkit.webhooks.retry.horizon:PT10M}") Duration horizon,
+            @Value("${devkit.webhooks.retry.tick:PT1S}") Duration tick,
+            @Value("${devkit.webhooks.retry.batch-size:100}") int batchSize) {
+        this.deliveryRepository = deliveryRepository;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+        this.claimExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int wheelSize = (int) Math.min(4096, Math.max(64, horizon.toMillis() / Math.max(1, tick.toMillis())));
+        this.wheel = new TimingWheel<>("webhook-retry", tick, wheelSize, claimExecutor, deliveryId -> requestClaim());
+        this.wheel.start();
+    }
+
+    @EventListener
+    public void onRetryScheduled(WebhookRetryScheduledEvent event) {
+        if (event.nextRetryAt().isBefore(Instant.now().plus(horizon))) {
+            wheel.schedule(event.deliveryId(), event.nextRetryAt());
+        }
+    }
+
+    /**
+     * Load retries due within the horizon into the wheel and claim whatever is already due.
+     */
+    @Scheduled(fixedDelayString = "${devkit.webhooks.retry.poll-interval:PT1M}")
+    public void reload() {
+        List<WebhookDeliveryRepository.RetrySchedule> upcoming = deliveryRepository.findRetrySchedule(
+            Instant.now().plus(horizon), PageRequest.of(0, MAX_TRACKED));
+        upcoming.forEach(retry -> wheel.schedule(retry.getId(), retry.getNextRetryAt()));
+
+        if (!upcoming.isEmpty()) {
+            logger.debug("Scheduled {} webhook retries ({} tracked)", upcoming.size(), wheel.size());
+        }
+        requestClaim();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.stop();
+        claimExecutor.shutdownNow();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void requestClaim() {
+        if (claimRequested.compareAndSet(false, true)) {
+            claimExecutor.execute(this::claimDue);
+        }
+    }
+
+    /**
+     * Claim due rows batch by batch until none are left. Several wheel entries falling due
+     * together collapse into a single pass.
+     */
+    private void claimDue() {
+        claimRequested.set(false);
+        try {
+            int claimed;
+            do {
+                Integer count = transactionTemplate.execute(status -> claimBatch(Instant.now()));
+                claimed = count != null ? count : 0;
+            } while (claimed >= batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Failed to claim due webhook retries", e);
+        }
+    }
+
+    private int claimBatch(Instant now) {
+        List<WebhookDeliveryEntity> dueRetries = deliveryRepository.claimDueRetries(now, batchSize);
+        for (WebhookDeliveryEntity delivery : dueRetries) {
+            wheel.cancel(delivery.getId());
+            WebhookEntity webhook = delivery.getWebhook();
+
+            // The retry is either handed to a new attempt or dropped; never picked up again
+            delivery.markRetryDispatched();
+
+            // Skip if webhook is disabled
+            if (!webhook.isActive()) {
+                continue;
+            }
+
+            WebhookDeliveryEntity retryDelivery = WebhookDeliveryEntity.createRetryDelivery(delivery);
+            deliveryRepository.save(retryDelivery);
+            dispatcher.enqueue(webhook.getId(), retryDelivery.getId());
+        }
+
+        // Deliveries pushed back because their webhook queue was full
+        List<WebhookDeliveryEntity> deferred = deliveryRepository.claimDeferredDeliveries(now, batchSize);
+        for (WebhookDeliveryEntity delivery : deferred) {
+            delivery.clearDeferral();
+            dispatcher.enqueue(delivery.getWebhook().getId(), delivery.getId());
+        }
+
+        if (!dueRetries.isEmpty() || !deferred.isEmpty()) {
+            logger.info("Claimed {} webhook retries and {} deferred deliveries", dueRetries.size(), deferred.size());
+        }
+        return Math.max(dueRetries.size(), deferred.size());
+    }
+}
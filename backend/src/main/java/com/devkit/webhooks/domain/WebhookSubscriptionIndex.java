@@ -0,0 +1,166 @@
+package com.devkit.webhooks.domain;
+
+import com.devkit.shared.cluster.ClusterEventBus;
+import com.devkit.shared.cluster.ClusterMessageHandler;
+import com.devkit.shared.domain.SpringEventPublisher;
+import com.devkit.webhooks.domain.events.WebhookSubscriptionsReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of active webhooks by (application, event type), so triggering an event
+ * costs one lookup instead of loading every active webhook.
+ * <p>
+ * The index is an immutable snapshot rebuilt after any commit that changes webhooks, and on
+ * other nodes through the cluster event bus. Deliveries re-check the webhook status before
+ * sending, so a briefly stale entry never delivers to an inactive webhook. Each rebuild is
+ * announced locally with a {@link WebhookSubscriptionsReloadedEvent}.
+ */
+@Component
+public class WebhookSubscriptionIndex implements ClusterMessageHandler {
+
+    static final String CHANNEL = "devkit_webhook_index";
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookSubscriptionIndex.class);
+
+    private final WebhookRepository webhookRepository;
+    private final ClusterEventBus clusterEventBus;
+    private final SpringEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public WebhookSubscriptionIndex(
+            WebhookRepository webhookRepository,
+            ClusterEventBus clusterEventBus,
+            SpringEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.webhookRepository = webhookRepository;
+        this.clusterEventBus = clusterEventBus;
+        this.eventPublisher = eventPublisher;
+        // A new transaction, so reloads started from afterCommit do not join the finished one
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        clusterEventBus.subscribe(CHANNEL, this);
+    }
+
+    /**
+     * Ids of active webhooks subscribed to the event, either for this application or for all applications.
+     */
+    public List<Long> findSubscribers(String applicationId, WebhookEntity.WebhookEventType eventType) {
+        Map<SubscriptionKey, List<Long>> index = current().subscriptions();
+
+        List<Long> global = index.getOrDefault(new SubscriptionKey(null, eventType), List.of());
+        if (applicationId == null) {
+            return global;
+        }
+        List<Long> scoped = index.getOrDefault(new SubscriptionKey(applicationId, eventType), List.of());
+        if (global.isEmpty()) {
+            return scoped;
+        }
+        if (scoped.isEmpty()) {
+            return global;
+        }
+        List<Long> all = new ArrayList<>(global.size() + scoped.size());
+        all.addAll(global);
+        all.addAll(scoped);
+        return all;
+    }
+
+    /**
+     * Batching settings of an active webhook, or null when it receives events one by one.
+     */
+    public WebhookEventBatcher.BatchPolicy findBatchPolicy(Long webhookId) {
+        return current().batchPolicies().get(webhookId);
+    }
+
+    /**
+     * Rebuild the index once the current transaction commits, and tell the other nodes to do the same.
+     */
+    public void refreshAfterCommit() {
+        clusterEventBus.publish(CHANNEL, "refresh");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(String payload) {
+        reload();
+    }
+
+    @Override
+    public void onResync() {
+        reload();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // Fall back to a full reload on the next lookup
+            snapshot = null;
+            logger.error("Failed to rebuild webhook subscription index", e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<WebhookEntity> webhooks = transactionTemplate.execute(status ->
+            webhookRepository.findByStatusWithSubscribedEvents(WebhookEntity.WebhookStatus.ACTIVE));
+
+        Map<SubscriptionKey, List<Long>> index = new HashMap<>();
+        Map<Long, WebhookEventBatcher.BatchPolicy> batchPolicies = new HashMap<>();
+        Set<Long> webhookIds = new HashSet<>();
+        for (WebhookEntity webhook : webhooks) {
+            webhookIds.add(webhook.getId());
+            if (webhook.isBatchEnabled()) {
+                batchPolicies.put(webhook.getId(), WebhookEventBatcher.BatchPolicy.of(webhook));
+            }
+            for (WebhookEntity.WebhookEventType eventType : webhook.getSubscribedEvents()) {
+                index.computeIfAbsent(new SubscriptionKey(webhook.getApplicationId(), eventType), k -> new ArrayList<>())
+                    .add(webhook.getId());
+            }
+        }
+        index.replaceAll((key, ids) -> List.copyOf(ids));
+
+        Snapshot loaded = new Snapshot(Map.copyOf(index), Map.copyOf(batchPolicies));
+        snapshot = loaded;
+        logger.debug("Loaded webhook subscription index: {} active webhooks", webhooks.size());
+        eventPublisher.publishLocally(new WebhookSubscriptionsReloadedEvent(Set.copyOf(webhookIds)));
+        return loaded;
+    }
+
+    private record Snapshot(
+        Map<SubscriptionKey, List<Long>> subscriptions,
+        Map<Long, WebhookEventBatcher.BatchPolicy> batchPolicies
+    ) {}
+
+    private record SubscriptionKey(String applicationId, WebhookEntity.WebhookEventType eventType) {}
+}
@@ -0,0 +1,25 @@
+package com.devkit.webhooks.domain.events;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a failed webhook delivery is scheduled for another attempt.
+ */
+public record WebhookRetryScheduledEvent(
+    Long deliveryId,
+    Long webhookId,
+    int nextAttemptNumber,
+    Instant nextRetryAt,
+    LocalDateTime occurredOn
+) {
+    public WebhookRetryScheduledEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public WebhookRetryScheduledEvent(Long deliveryId, Long webhookId, int nextAttemptNumber, Instant nextRetryAt) {
+        this(deliveryId, webhookId, nextAttemptNumber, nextRetryAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,23 @@
+package com.devkit.webhooks.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Published on each node when the webhook subscription index is rebuilt, with the ids of the
+ * webhooks that are still active.
+ */
+public record WebhookSubscriptionsReloadedEvent(
+    Set<Long> activeWebhookIds,
+    LocalDateTime occurredOn
+) {
+    public WebhookSubscriptionsReloadedEvent {
+        if (occurredOn == null) {
+            occurredOn = LocalDateTime.now();
+        }
+    }
+
+    public WebhookSubscriptionsReloadedEvent(Set<Long> activeWebhookIds) {
+        this(activeWebhookIds, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,23 @@
+package com.devkit.webhooks.rest;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for configuring event batching on a webhook.
+ */
+public record WebhookBatchingDTO(
+
+    @NotNull(message = "Enabled flag is required")
+    Boolean enabled,
+
+    @Min(value = 10, message = "Batch window must be at least 10 ms")
+    @Max(value = 300000, message = "Batch window must not exceed 5 minutes")
+    Integer windowMillis,
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    @Max(value = 1000, message = "Batch size must not exceed 1000 events")
+    Integer maxEvents
+
+) {}
@@ -0,0 +1,30 @@
+package com.devkit.webhooks.rest;
+
+import com.devkit.webhooks.domain.WebhookCircuitBreaker;
+
+import java.time.Instant;
+
+/**
+ * DTO for the circuit breaker state of a webhook endpoint.
+ */
+public record WebhookCircuitBreakerDTO(
+    Long webhookId,
+    WebhookCircuitBreaker.State state,
+    int bufferedCalls,
+    double failureRate,
+    double slowCallRate,
+    Instant openUntil,
+    Instant failingSince
+) {
+    public static WebhookCircuitBreakerDTO fromSnapshot(Long webhookId, WebhookCircuitBreaker.Snapshot snapshot) {
+        return new WebhookCircuitBreakerDTO(
+            webhookId,
+            snapshot.state(),
+            snapshot.bufferedCalls(),
+            snapshot.failureRate(),
+            snapshot.slowCallRate(),
+            snapshot.openUntil(),
+            snapshot.failingSince()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.devkit.webhooks.rest;
 
+import com.devkit.shared.persistence.KeysetCursor;
 import com.devkit.webhooks.domain.WebhookDeliveryEntity;
 import com.devkit.webhooks.domain.WebhookDeliveryService;
 import com.devkit.webhooks.domain.WebhookEntity;
@@ -22,6 +23,8 @@ public class WebhookController {
 
     private static final Logger logger = LoggerFactory.getLogger(WebhookController.class);
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final WebhookDeliveryService webhookDeliveryService;
 
     public WebhookController(WebhookDeliveryService webhookDeliveryService) {
@@ -135,6 +138,28 @@ public class WebhookController {
         return ResponseEntity.ok(WebhookDTO.fromEntity(webhook));
     }
 
+    /**
+     * Configure event batching for a webhook.
+     */
+    @PutMapping("/{id}/batching")
+    public ResponseEntity<WebhookDTO> configureBatching(
+            @PathVariable Long id,
+            @Valid @RequestBody WebhookBatchingDTO request) {
+
+        logger.info("Configuring batching for webhook: {}", id);
+
+        webhookDeliveryService.configureBatching(
+            id,
+            request.enabled(),
+            request.windowMillis(),
+            request.maxEvents()
+        );
+
+        WebhookEntity webhook = webhookDeliveryService.getWebhook(id);
+
+        return ResponseEntity.ok(WebhookDTO.fromEntity(webhook));
+    }
+
     /**
      * Activate a webhook.
      */
@@ -175,38 +200,65 @@ public class WebhookController {
         return ResponseEntity.noContent().build();
     }
 
+    // ==================== Circuit Breaker ====================
+
+    /**
+     * Get the circuit breaker state of a webhook's endpoint.
+     */
+    @GetMapping("/{id}/circuit")
+    public ResponseEntity<WebhookCircuitBreakerDTO> getCircuitBreaker(@PathVariable Long id) {
+        logger.debug("Getting circuit breaker for webhook: {}", id);
+
+        return ResponseEntity.ok(WebhookCircuitBreakerDTO.fromSnapshot(
+            id, webhookDeliveryService.getCircuitBreaker(id)));
+    }
+
+    /**
+     * Close a webhook's circuit so deliveries are attempted again.
+     */
+    @PostMapping("/{id}/circuit/reset")
+    public ResponseEntity<WebhookCircuitBreakerDTO> resetCircuitBreaker(@PathVariable Long id) {
+        logger.info("Resetting circuit breaker for webhook: {}", id);
+
+        webhookDeliveryService.resetCircuitBreaker(id);
+
+        return ResponseEntity.ok(WebhookCircuitBreakerDTO.fromSnapshot(
+            id, webhookDeliveryService.getCircuitBreaker(id)));
+    }
+
     // ==================== Webhook Deliveries ====================
 
     /**
-     * Get deliveries for a webhook.
+     * Get deliveries for a webhook, newest first. Pass the previous page's {@code nextCursor} to continue.
      */
     @GetMapping("/{id}/deliveries")
-    public ResponseEntity<List<WebhookDeliveryDTO>> getWebhookDeliveries(@PathVariable Long id) {
+    public ResponseEntity<WebhookDeliveryPageDTO> getWebhookDeliveries(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         logger.debug("Getting deliveries for webhook: {}", id);
 
-        List<WebhookDeliveryEntity> deliveries = webhookDeliveryService.getWebhookDeliveries(id);
-
-        List<WebhookDeliveryDTO> dtos = deliveries.stream()
-            .map(WebhookDeliveryDTO::fromEntity)
-            .toList();
+        int pageSize = pageSize(limit);
+        List<WebhookDeliveryEntity> deliveries =
+            webhookDeliveryService.getWebhookDeliveries(id, KeysetCursor.decode(cursor), pageSize);
 
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(WebhookDeliveryPageDTO.fromEntities(deliveries, pageSize));
     }
 
     /**
-     * Get recent deliveries across all webhooks.
+     * Get recent deliveries across all webhooks, newest first. Pass the previous page's {@code nextCursor} to continue.
      */
     @GetMapping("/deliveries/recent")
-    public ResponseEntity<List<WebhookDeliveryDTO>> getRecentDeliveries() {
+    public ResponseEntity<WebhookDeliveryPageDTO> getRecentDeliveries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         logger.debug("Getting recent deliveries");
 
-        List<WebhookDeliveryEntity> deliveries = webhookDeliveryService.getRecentDeliveries();
-
-        List<WebhookDeliveryDTO> dtos = deliveries.stream()
-            .map(WebhookDeliveryDTO::fromEntity)
-            .toList();
+        int pageSize = pageSize(limit);
+        List<WebhookDeliveryEntity> deliveries =
+            webhookDeliveryService.getRecentDeliveries(KeysetCursor.decode(cursor), pageSize);
 
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(WebhookDeliveryPageDTO.fromEntities(deliveries, pageSize));
     }
 
     // ==================== Statistics ====================
@@ -223,6 +275,23 @@ public class WebhookController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get hourly delivery statistics for a webhook.
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<List<WebhookHourlyStatsDTO>> getWebhookStatistics(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "24") int hours) {
+
+        logger.debug("Getting statistics for webhook: {} over {} hours", id, hours);
+
+        List<WebhookHourlyStatsDTO> dtos = webhookDeliveryService.getHourlyStatistics(id, Math.min(hours, 24 * 90)).stream()
+            .map(WebhookHourlyStatsDTO::fromEntity)
+            .toList();
+
+        return ResponseEntity.ok(dtos);
+    }
+
     /**
      * Retry a failed delivery.
      */
@@ -254,4 +323,10 @@ public class WebhookController {
 
         return ResponseEntity.accepted().build();
     }
+
+    // ==================== Helper Methods ====================
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
 }
@@ -25,6 +25,9 @@ public record WebhookDTO(
     Long totalDeliveries,
     Long successfulDeliveries,
     Long failedDeliveries,
+    boolean batchEnabled,
+    Integer batchWindowMillis,
+    Integer batchMaxEvents,
     Instant createdAt,
     Instant updatedAt
 ) {
@@ -46,6 +49,9 @@ public record WebhookDTO(
             entity.getTotalDeliveries(),
             entity.getSuccessfulDeliveries(),
             entity.getFailedDeliveries(),
+            entity.isBatchEnabled(),
+            entity.getBatchWindowMillis(),
+            entity.getBatchMaxEvents(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
@@ -13,6 +13,7 @@ public record WebhookDeliveryDTO(
     String eventType,
     String eventId,
     String payload,
+    Integer eventCount,
     Integer responseStatusCode,
     String responseBody,
     WebhookDeliveryEntity.DeliveryStatus status,
@@ -30,6 +31,7 @@ public record WebhookDeliveryDTO(
             entity.getEventType(),
             entity.getEventId(),
             entity.getPayload(),
+            entity.getEventCount(),
             entity.getResponseStatusCode(),
             entity.getResponseBody(),
             entity.getStatus(),
@@ -0,0 +1,26 @@
+package com.devkit.webhooks.rest;
+
+import com.devkit.shared.persistence.KeysetCursor;
+import com.devkit.webhooks.domain.WebhookDeliveryEntity;
+
+import java.util.List;
+
+/**
+ * DTO for a page of webhook deliveries. {@code nextCursor} is null on the last page.
+ */
+public record WebhookDeliveryPageDTO(
+    List<WebhookDeliveryDTO> deliveries,
+    String nextCursor
+) {
+    public static WebhookDeliveryPageDTO fromEntities(List<WebhookDeliveryEntity> entities, int limit) {
+        String nextCursor = null;
+        if (entities.size() >= limit) {
+            WebhookDeliveryEntity last = entities.get(entities.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new WebhookDeliveryPageDTO(
+            entities.stream().map(WebhookDeliveryDTO::fromEntity).toList(),
+            nextCursor
+        );
+    }
+}
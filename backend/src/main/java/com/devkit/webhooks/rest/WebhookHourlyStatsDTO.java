@@ -0,0 +1,28 @@
+package com.devkit.webhooks.rest;
+
+import com.devkit.webhooks.domain.WebhookDeliveryStatsEntity;
+
+import java.time.Instant;
+
+/**
+ * DTO for a webhook's delivery statistics over one hour.
+ */
+public record WebhookHourlyStatsDTO(
+    Instant hourStart,
+    long deliveredCount,
+    long failedCount,
+    long timeoutCount,
+    long averageDurationMilliseconds,
+    long maxDurationMilliseconds
+) {
+    public static WebhookHourlyStatsDTO fromEntity(WebhookDeliveryStatsEntity entity) {
+        return new WebhookHourlyStatsDTO(
+            entity.getHourStart(),
+            entity.getDeliveredCount(),
+            entity.getFailedCount(),
+            entity.getTimeoutCount(),
+            entity.getAverageDurationMillis(),
+            entity.getMaxDurationMillis()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+-- =====================================================
+-- Tenant Usage Counters
+-- PostgreSQL 15+
+-- =====================================================
+
+-- Counters maintained incrementally from application, configuration
+-- and tenant user events, so quota checks and tenant stats read a
+-- single row instead of counting rows on every request.
+CREATE TABLE IF NOT EXISTS tenant_usage (
+    tenant_id BIGINT PRIMARY KEY REFERENCES tenants(id) ON DELETE CASCADE,
+    user_count BIGINT NOT NULL DEFAULT 0,
+    application_count BIGINT NOT NULL DEFAULT 0,
+    config_count BIGINT NOT NULL DEFAULT 0,
+    reconciled_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE tenant_usage IS 'Incrementally maintained usage counters per tenant';
+
+-- Seed counters for existing tenants
+INSERT INTO tenant_usage (tenant_id, user_count, application_count, config_count, reconciled_at)
+SELECT t.id,
+       (SELECT COUNT(*) FROM tenant_users tu WHERE tu.tenant_id = t.id),
+       (SELECT COUNT(*) FROM applications a WHERE a.tenant_id = t.id),
+       (SELECT COUNT(*) FROM configurations c WHERE c.tenant_id = t.id),
+       CURRENT_TIMESTAMP
+FROM tenants t
+ON CONFLICT (tenant_id) DO NOTHING;
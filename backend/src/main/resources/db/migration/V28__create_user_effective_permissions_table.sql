@@ -0,0 +1,43 @@
+-- =====================================================
+-- User Effective Permissions Read Model
+-- PostgreSQL 15+
+-- =====================================================
+
+-- Denormalized user -> permission rows, one per (grant, permission).
+-- Maintained by the application on grant, revoke and role updates;
+-- revoked grants and deleted roles/permissions cascade automatically.
+CREATE TABLE IF NOT EXISTS user_effective_permissions (
+    id BIGSERIAL PRIMARY KEY,
+    user_role_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    role_id BIGINT NOT NULL,
+    role_name VARCHAR(255) NOT NULL,
+    permission_id BIGINT NOT NULL,
+    permission_name VARCHAR(255) NOT NULL,
+    resource VARCHAR(100) NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT uk_user_effective_permissions UNIQUE (user_role_id, permission_id),
+    CONSTRAINT fk_uep_user_role FOREIGN KEY (user_role_id) REFERENCES user_roles(id) ON DELETE CASCADE,
+    CONSTRAINT fk_uep_permission FOREIGN KEY (permission_id) REFERENCES permissions(id) ON DELETE CASCADE
+);
+
+-- Indexes for listings and permission checks
+CREATE INDEX idx_uep_tenant_user ON user_effective_permissions(tenant_id, user_id);
+CREATE INDEX idx_uep_tenant_user_resource_action ON user_effective_permissions(tenant_id, user_id, resource, action);
+CREATE INDEX idx_uep_role_id ON user_effective_permissions(role_id);
+
+-- Backfill from existing grants
+INSERT INTO user_effective_permissions (
+    user_role_id, tenant_id, user_id, role_id, role_name,
+    permission_id, permission_name, resource, action, expires_at
+)
+SELECT ur.id, ur.tenant_id, ur.user_id, r.id, r.name,
+       p.id, p.name, p.resource, p.action, ur.expires_at
+FROM user_roles ur
+JOIN roles r ON r.id = ur.role_id
+JOIN role_permissions rp ON rp.role_id = r.id
+JOIN permissions p ON p.id = rp.permission_id
+ON CONFLICT (user_role_id, permission_id) DO NOTHING;
@@ -0,0 +1,9 @@
+-- Optional batching of events into a single delivery per webhook
+ALTER TABLE webhooks
+    ADD COLUMN batch_enabled BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN batch_window_ms INTEGER NOT NULL DEFAULT 1000,
+    ADD COLUMN batch_max_events INTEGER NOT NULL DEFAULT 100;
+
+-- Number of events carried by a delivery (greater than 1 for batches)
+ALTER TABLE webhook_deliveries
+    ADD COLUMN event_count INTEGER NOT NULL DEFAULT 1;
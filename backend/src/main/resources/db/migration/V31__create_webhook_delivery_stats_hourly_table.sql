@@ -0,0 +1,29 @@
+-- Hourly delivery counters per webhook, flushed from in-memory accumulators
+CREATE TABLE webhook_delivery_stats_hourly (
+    webhook_id BIGINT NOT NULL REFERENCES webhooks(id) ON DELETE CASCADE,
+    hour_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    delivered_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    timeout_count BIGINT NOT NULL DEFAULT 0,
+    total_duration_ms BIGINT NOT NULL DEFAULT 0,
+    max_duration_ms BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (webhook_id, hour_start)
+);
+
+CREATE INDEX idx_webhook_delivery_stats_hourly_hour_start ON webhook_delivery_stats_hourly(hour_start);
+
+-- Seed the rollups from existing deliveries
+INSERT INTO webhook_delivery_stats_hourly (
+    webhook_id, hour_start, delivered_count, failed_count, timeout_count, total_duration_ms, max_duration_ms)
+SELECT webhook_id,
+       date_trunc('hour', created_at),
+       COUNT(*) FILTER (WHERE status = 'DELIVERED'),
+       COUNT(*) FILTER (WHERE status IN ('FAILED', 'TIMEOUT')),
+       COUNT(*) FILTER (WHERE status = 'TIMEOUT'),
+       COALESCE(SUM(duration_milliseconds) FILTER (WHERE status = 'DELIVERED'), 0),
+       COALESCE(MAX(duration_milliseconds) FILTER (WHERE status = 'DELIVERED'), 0)
+FROM webhook_deliveries
+WHERE status IN ('DELIVERED', 'FAILED', 'TIMEOUT')
+GROUP BY webhook_id, date_trunc('hour', created_at);
@@ -0,0 +1,77 @@
+-- Partition webhook_deliveries by month on created_at so history can be expired by dropping
+-- whole partitions. Large text columns are compressed with lz4 (PostgreSQL 14+).
+
+ALTER TABLE webhook_deliveries RENAME TO webhook_deliveries_legacy;
+ALTER TABLE webhook_deliveries_legacy RENAME CONSTRAINT webhook_deliveries_pkey TO webhook_deliveries_legacy_pkey;
+ALTER TABLE webhook_deliveries_legacy RENAME CONSTRAINT webhook_deliveries_webhook_id_fkey TO webhook_deliveries_legacy_webhook_id_fkey;
+DROP INDEX idx_webhook_deliveries_webhook_id;
+DROP INDEX idx_webhook_deliveries_status;
+DROP INDEX idx_webhook_deliveries_event_type;
+DROP INDEX idx_webhook_deliveries_next_retry_at;
+
+CREATE TABLE webhook_deliveries (
+    id BIGINT NOT NULL DEFAULT nextval('webhook_deliveries_id_seq'),
+    webhook_id BIGINT NOT NULL REFERENCES webhooks(id) ON DELETE CASCADE,
+    event_type VARCHAR(50) NOT NULL,
+    event_id VARCHAR(255),
+    payload TEXT COMPRESSION lz4,
+    event_count INTEGER NOT NULL DEFAULT 1,
+    response_status_code INTEGER,
+    response_body TEXT COMPRESSION lz4,
+    response_headers TEXT COMPRESSION lz4,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempt_number INTEGER NOT NULL DEFAULT 1,
+    delivered_at TIMESTAMP WITH TIME ZONE,
+    duration_milliseconds BIGINT,
+    error_message TEXT,
+    next_retry_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE webhook_deliveries_id_seq OWNED BY webhook_deliveries.id;
+
+-- Indexes (created on every partition)
+CREATE INDEX idx_webhook_deliveries_webhook_created ON webhook_deliveries(webhook_id, created_at DESC, id DESC);
+CREATE INDEX idx_webhook_deliveries_created ON webhook_deliveries(created_at DESC, id DESC);
+CREATE INDEX idx_webhook_deliveries_status ON webhook_deliveries(status);
+CREATE INDEX idx_webhook_deliveries_event_id ON webhook_deliveries(event_id);
+CREATE INDEX idx_webhook_deliveries_event_type ON webhook_deliveries(event_type);
+CREATE INDEX idx_webhook_deliveries_next_retry_at ON webhook_deliveries(next_retry_at) WHERE next_retry_at IS NOT NULL;
+
+-- Catches rows outside the managed range; partition maintenance never drops it
+CREATE TABLE webhook_deliveries_default PARTITION OF webhook_deliveries DEFAULT;
+
+-- Monthly partitions from the oldest existing delivery up to three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', (now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC')::DATE,
+                    date_trunc('month', now() AT TIME ZONE 'UTC')::DATE)
+    INTO month_start
+    FROM webhook_deliveries_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE webhook_deliveries_p%s PARTITION OF webhook_deliveries FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYY_MM'),
+            month_start::TEXT || ' 00:00:00+00',
+            (month_start + INTERVAL '1 month')::DATE::TEXT || ' 00:00:00+00'
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO webhook_deliveries (
+    id, webhook_id, event_type, event_id, payload, event_count, response_status_code, response_body,
+    response_headers, status, attempt_number, delivered_at, duration_milliseconds, error_message,
+    next_retry_at, created_at, updated_at)
+SELECT id, webhook_id, event_type, event_id, payload, event_count, response_status_code, response_body,
+       response_headers, status, attempt_number, delivered_at, duration_milliseconds, error_message,
+       next_retry_at, created_at, updated_at
+FROM webhook_deliveries_legacy;
+
+DROP TABLE webhook_deliveries_legacy;
@@ -0,0 +1,45 @@
+-- Audit entry counts per hour and per day, maintained as entries are written
+CREATE TABLE audit_stats_hourly (
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    tenant_id BIGINT,
+    entity_type VARCHAR(100) NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    actor VARCHAR(255),
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    failure_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_audit_stats_hourly UNIQUE NULLS NOT DISTINCT (bucket_start, tenant_id, entity_type, action, actor)
+);
+
+CREATE TABLE audit_stats_daily (
+    bucket_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    tenant_id BIGINT,
+    entity_type VARCHAR(100) NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    actor VARCHAR(255),
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    failure_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_audit_stats_daily UNIQUE NULLS NOT DISTINCT (bucket_start, tenant_id, entity_type, action, actor)
+);
+
+CREATE INDEX idx_audit_stats_hourly_tenant_bucket ON audit_stats_hourly(tenant_id, bucket_start);
+CREATE INDEX idx_audit_stats_daily_tenant_bucket ON audit_stats_daily(tenant_id, bucket_start);
+
+COMMENT ON TABLE audit_stats_hourly IS 'Audit entry counts per UTC hour, tenant, entity type, action and actor';
+COMMENT ON TABLE audit_stats_daily IS 'Audit entry counts per UTC day, tenant, entity type, action and actor';
+
+-- Seed both rollups from existing entries
+INSERT INTO audit_stats_hourly (bucket_start, tenant_id, entity_type, action, actor, entry_count, failure_count)
+SELECT date_trunc('hour', created_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+       tenant_id, entity_type, action, actor,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE NOT success)
+FROM audit_logs
+GROUP BY 1, tenant_id, entity_type, action, actor;
+
+INSERT INTO audit_stats_daily (bucket_start, tenant_id, entity_type, action, actor, entry_count, failure_count)
+SELECT date_trunc('day', created_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+       tenant_id, entity_type, action, actor,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE NOT success)
+FROM audit_logs
+GROUP BY 1, tenant_id, entity_type, action, actor;
@@ -0,0 +1,9 @@
+-- Indexes matching the (created_at DESC, id DESC) keyset order of each audit access pattern
+DROP INDEX IF EXISTS idx_audit_logs_created_at;
+DROP INDEX IF EXISTS idx_audit_logs_entity;
+DROP INDEX IF EXISTS idx_audit_logs_tenant_id;
+
+CREATE INDEX idx_audit_logs_created ON audit_logs(created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_tenant_created ON audit_logs(tenant_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_entity_created ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_actor_created ON audit_logs(actor, created_at DESC, id DESC);
@@ -0,0 +1,70 @@
+-- Partition audit_logs by month on created_at so retention drops whole partitions instead of
+-- deleting rows. Free-text columns are compressed with lz4 (PostgreSQL 14+).
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER TABLE audit_logs_legacy RENAME CONSTRAINT audit_logs_pkey TO audit_logs_legacy_pkey;
+DROP INDEX idx_audit_logs_action;
+DROP INDEX idx_audit_logs_created;
+DROP INDEX idx_audit_logs_tenant_created;
+DROP INDEX idx_audit_logs_entity_created;
+DROP INDEX idx_audit_logs_actor_created;
+
+CREATE TABLE audit_logs (
+    id VARCHAR(255) NOT NULL,
+    tenant_id BIGINT,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id VARCHAR(255) NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    actor VARCHAR(255),
+    ip_address VARCHAR(45),
+    user_agent TEXT COMPRESSION lz4,
+    success BOOLEAN NOT NULL DEFAULT TRUE,
+    error_message TEXT COMPRESSION lz4,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Indexes (created on every partition)
+CREATE INDEX idx_audit_logs_created ON audit_logs(created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_tenant_created ON audit_logs(tenant_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_entity_created ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_actor_created ON audit_logs(actor, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_action ON audit_logs(action);
+
+COMMENT ON TABLE audit_logs IS 'Immutable audit log for all operations, partitioned by month';
+COMMENT ON COLUMN audit_logs.action IS 'CREATE, UPDATE, DELETE, ENABLE, DISABLE, ROTATE';
+COMMENT ON COLUMN audit_logs.tenant_id IS 'Foreign key reference to tenants for multi-tenancy';
+
+-- Catches rows outside the managed range; partition maintenance never drops it
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Monthly partitions from the oldest existing entry up to three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', (now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC')::DATE,
+                    date_trunc('month', now() AT TIME ZONE 'UTC')::DATE)
+    INTO month_start
+    FROM audit_logs_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE audit_logs_p%s PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYY_MM'),
+            month_start::TEXT || ' 00:00:00+00',
+            (month_start + INTERVAL '1 month')::DATE::TEXT || ' 00:00:00+00'
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (
+    id, tenant_id, entity_type, entity_id, action, actor, ip_address, user_agent, success,
+    error_message, created_at)
+SELECT id, tenant_id, entity_type, entity_id, action, actor, ip_address, user_agent, success,
+       error_message, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
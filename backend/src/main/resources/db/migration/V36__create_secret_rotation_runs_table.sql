@@ -0,0 +1,26 @@
+-- Checkpoints of automatic rotation runs, so an interrupted run resumes where it stopped
+CREATE TABLE secret_rotation_runs (
+    id BIGSERIAL PRIMARY KEY,
+    application_id VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    due_before TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_secret_id VARCHAR(255),
+    total_due INTEGER NOT NULL DEFAULT 0,
+    rotated_count INTEGER NOT NULL DEFAULT 0,
+    failed_count INTEGER NOT NULL DEFAULT 0,
+    owner VARCHAR(255) NOT NULL,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- At most one running run per scope (one application, or all of them)
+CREATE UNIQUE INDEX uq_secret_rotation_runs_running
+    ON secret_rotation_runs(COALESCE(application_id, '')) WHERE status = 'RUNNING';
+CREATE INDEX idx_secret_rotation_runs_created_at ON secret_rotation_runs(created_at);
+
+COMMENT ON TABLE secret_rotation_runs IS 'Progress of automatic secret rotation runs, checkpointed per chunk';
+COMMENT ON COLUMN secret_rotation_runs.application_id IS 'Application the run is limited to; NULL for all applications';
+COMMENT ON COLUMN secret_rotation_runs.last_secret_id IS 'Secrets are processed in id order; the run resumes after this one';
+COMMENT ON COLUMN secret_rotation_runs.heartbeat_at IS 'Refreshed after every chunk; a run whose heartbeat is stale can be taken over';
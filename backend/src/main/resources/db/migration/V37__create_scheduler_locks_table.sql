@@ -0,0 +1,19 @@
+-- Leases that let a scheduled job run on one node of the cluster at a time
+CREATE TABLE scheduler_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+COMMENT ON TABLE scheduler_locks IS 'Cluster-wide leases for scheduled jobs; a lease is free once locked_until has passed';
+
+-- Rotation runs can cover one shard of the applications, so nodes can share the work
+ALTER TABLE secret_rotation_runs ADD COLUMN shard_index INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE secret_rotation_runs ADD COLUMN shard_count INTEGER NOT NULL DEFAULT 1;
+
+DROP INDEX uq_secret_rotation_runs_running;
+CREATE UNIQUE INDEX uq_secret_rotation_runs_running
+    ON secret_rotation_runs(COALESCE(application_id, ''), shard_index, shard_count) WHERE status = 'RUNNING';
+
+COMMENT ON COLUMN secret_rotation_runs.shard_index IS 'Applications whose id hash modulo shard_count equals this are covered';
@@ -0,0 +1,34 @@
+-- Retired versions of application encryption keys.
+-- A version is kept after rotation until every value encrypted with it has been re-encrypted
+CREATE TABLE application_encryption_key_versions (
+    id BIGSERIAL PRIMARY KEY,
+    application_id VARCHAR(255) NOT NULL,
+    key_version INTEGER NOT NULL,
+    encrypted_key BYTEA NOT NULL,
+    salt BYTEA NOT NULL,
+    retired_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (application_id, key_version),
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE
+);
+
+-- Key version each ciphertext was written with
+ALTER TABLE secrets ADD COLUMN key_version INTEGER;
+ALTER TABLE configurations ADD COLUMN key_version INTEGER;
+
+UPDATE secrets s
+SET key_version = k.key_version
+FROM application_encryption_keys k
+WHERE k.application_id = s.application_id AND k.is_active = TRUE;
+
+UPDATE configurations c
+SET key_version = k.key_version
+FROM environments e
+JOIN application_encryption_keys k ON k.application_id = e.application_id AND k.is_active = TRUE
+WHERE e.id = c.environment_id AND c.encrypted_value IS NOT NULL;
+
+COMMENT ON TABLE application_encryption_key_versions IS 'Retired application keys, kept until their values are re-encrypted';
+COMMENT ON COLUMN application_encryption_key_versions.encrypted_key IS 'Application key encrypted with master key (AES-256-GCM)';
+COMMENT ON COLUMN secrets.key_version IS 'Version of the application key encrypted_value was written with';
+COMMENT ON COLUMN configurations.key_version IS 'Version of the application key encrypted_value was written with';
@@ -5,23 +5,33 @@ import { FileText, Activity } from "lucide-react";
 import { AuditTable, AuditPagination } from "@/components/audit/audit-table";
 import { AuditFilters } from "@/components/audit/audit-filters";
 import { AuditDetail } from "@/components/audit/audit-detail";
+import {
+  Select,
+  SelectContent,
+  SelectItem,
+  SelectTrigger,
+  SelectValue,
+} from "@/components/ui/select";
 import { useAuditLogs, useAuditStats } from "@/lib/hooks/use-audit";
+import { useTenants } from "@/lib/hooks/use-tenants";
 import type { AuditLogFilter, AuditLog } from "@/lib/types/audit";
 
 export default function AuditPage() {
   const [filters, setFilters] = useState<AuditLogFilter>({ limit: 50 });
+  const [tenantId, setTenantId] = useState<string>();
   const [selectedLog, setSelectedLog] = useState<AuditLog | null>(null);
   const [showDetail, setShowDetail] = useState(false);
 
-  const { logs, total, page, limit, totalPages, isLoading, refetch, export: exportLogs, isExporting } = useAuditLogs(filters);
-  const { data: stats } = useAuditStats(filters.startDate, filters.endDate);
+  // Audit queries are always scoped to one tenant; default to the first one
+  const { tenants } = useTenants();
+  const selectedTenantId = tenantId ?? tenants[0]?.id;
+  const scopedFilters = { ...filters, tenantId: selectedTenantId };
 
-  const handlePageChange = (newPage: number) => {
-    setFilters({ ...filters, page: newPage });
-  };
+  const { logs, page, limit, totalPages, goToPage, isLoading, refetch, export: exportLogs, isExporting } = useAuditLogs(scopedFilters);
+  const { data: stats } = useAuditStats(selectedTenantId);
 
   const handleExport = (format: "csv" | "json") => {
-    exportLogs({ format });
+    exportLogs({ format, filters: scopedFilters });
   };
 
   const handleRowClick = (log: AuditLog) => {
@@ -51,13 +61,25 @@ export default function AuditPage() {
             System activity and audit trail
           </p>
         </div>
+        <Select value={selectedTenantId} onValueChange={setTenantId}>
+          <SelectTrigger className="w-48 font-mono text-sm bg-terminal-surface border-terminal-border">
+            <SelectValue placeholder="Select tenant" />
+          </SelectTrigger>
+          <SelectContent className="bg-terminal-surface border-terminal-border">
+            {tenants.map((tenant) => (
+              <SelectItem key={tenant.id} value={tenant.id}>
+                {tenant.name}
+              </SelectItem>
+            ))}
+          </SelectContent>
+        </Select>
       </div>
 
       {/* Stats */}
       <div className="grid grid-cols-2 md:grid-cols-4 gap-4">
         <div className="p-4 bg-terminal-surface border border-terminal-border rounded-lg">
           <div className="text-2xl font-mono font-bold text-terminal-text">
-            {stats?.total ?? total}
+            {stats?.total ?? 0}
           </div>
           <div className="text-xs text-terminal-dim font-mono mt-1">Total Events</div>
         </div>
@@ -132,9 +154,9 @@ export default function AuditPage() {
         <AuditPagination
           currentPage={page}
           totalPages={totalPages}
-          total={total}
+          count={logs.length}
           limit={limit}
-          onPageChange={handlePageChange}
+          onPageChange={goToPage}
         />
       )}
 
@@ -32,7 +32,6 @@ export function AuditFilters({ filters, onFiltersChange, onExport, isExporting }
     onFiltersChange({
       ...filters,
       [key]: value,
-      page: 0, // Reset to first page when filters change
     });
   };
 
@@ -86,7 +85,6 @@ export function AuditFilters({ filters, onFiltersChange, onExport, isExporting }
       ...filters,
       startDate: start.toISOString(),
       endDate: end.toISOString(),
-      page: 0,
     });
   };
 
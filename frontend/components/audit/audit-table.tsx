@@ -219,7 +219,7 @@ export function AuditTable({ logs, isLoading, onRowClick }: AuditTableProps) {
 interface AuditPaginationProps {
   currentPage: number;
   totalPages: number;
-  total: number;
+  count: number;
   limit: number;
   onPageChange: (page: number) => void;
 }
@@ -227,17 +227,17 @@ interface AuditPaginationProps {
 export function AuditPagination({
   currentPage,
   totalPages,
-  total,
+  count,
   limit,
   onPageChange,
 }: AuditPaginationProps) {
   const startItem = currentPage * limit + 1;
-  const endItem = Math.min((currentPage + 1) * limit, total);
+  const endItem = currentPage * limit + count;
 
   return (
     <div className="flex items-center justify-between">
       <div className="text-xs text-terminal-dim font-mono">
-        Showing {startItem} to {endItem} of {total} entries
+        Showing {startItem} to {endItem}
       </div>
 
       <div className="flex items-center gap-2">
@@ -13,13 +13,14 @@ export const auditApi = {
    */
   getLogs: (filters?: AuditLogFilter): Promise<AuditLogResponse> => {
     const params = new URLSearchParams();
-    if (filters?.userId) params.append("userId", filters.userId);
+    if (filters?.tenantId) params.append("tenantId", filters.tenantId);
+    if (filters?.userId) params.append("actor", filters.userId);
     if (filters?.action) params.append("action", filters.action);
     if (filters?.entityType) params.append("entityType", filters.entityType);
     if (filters?.entityId) params.append("entityId", filters.entityId);
-    if (filters?.startDate) params.append("startDate", filters.startDate);
-    if (filters?.endDate) params.append("endDate", filters.endDate);
-    params.append("page", String(filters?.page || 0));
+    if (filters?.startDate) params.append("from", new Date(filters.startDate).toISOString());
+    if (filters?.endDate) params.append("to", new Date(filters.endDate).toISOString());
+    if (filters?.cursor) params.append("cursor", filters.cursor);
     params.append("limit", String(filters?.limit || 50));
 
     return apiClient.get<AuditLogResponse>(`/audit?${params.toString()}`);
@@ -29,20 +30,15 @@ export const auditApi = {
    * Get audit log by ID
    * GET /api/v1/audit/{id}
    */
-  getById: (id: string): Promise<AuditLog> =>
-    apiClient.get<AuditLog>(`/audit/${id}`),
+  getById: (id: string, tenantId: string): Promise<AuditLog> =>
+    apiClient.get<AuditLog>(`/audit/${id}?tenantId=${tenantId}`),
 
   /**
    * Get audit statistics
    * GET /api/v1/audit/stats
    */
-  getStats: (startDate?: string, endDate?: string): Promise<AuditStats> => {
-    const params = new URLSearchParams();
-    if (startDate) params.append("startDate", startDate);
-    if (endDate) params.append("endDate", endDate);
-    const queryString = params.toString();
-    return apiClient.get<AuditStats>(`/audit/stats${queryString ? `?${queryString}` : ""}`);
-  },
+  getStats: (tenantId: string): Promise<AuditStats> =>
+    apiClient.get<AuditStats>(`/audit/stats?tenantId=${tenantId}`),
 
   /**
    * Export audit logs
@@ -50,13 +46,15 @@ export const auditApi = {
    */
   export: (filters?: AuditLogFilter, format: "csv" | "json" = "csv"): Promise<Blob> => {
     const params = new URLSearchParams();
-    if (filters?.userId) params.append("userId", filters.userId);
+    if (filters?.tenantId) params.append("tenantId", filters.tenantId);
+    if (filters?.userId) params.append("actor", filters.userId);
     if (filters?.action) params.append("action", filters.action);
     if (filters?.entityType) params.append("entityType", filters.entityType);
     if (filters?.entityId) params.append("entityId", filters.entityId);
-    if (filters?.startDate) params.append("startDate", filters.startDate);
-    if (filters?.endDate) params.append("endDate", filters.endDate);
-    params.append("format", format);
+    if (filters?.startDate) params.append("from", new Date(filters.startDate).toISOString());
+    if (filters?.endDate) params.append("to", new Date(filters.endDate).toISOString());
+    // JSON exports are streamed as newline-delimited JSON
+    params.append("format", format === "json" ? "ndjson" : "csv");
 
     return apiClient.get<Blob>(`/audit/export?${params.toString()}`, {
       responseType: "blob",
@@ -67,13 +65,19 @@ export const auditApi = {
    * Get logs for a specific entity
    * GET /api/v1/audit/entity/{entityType}/{entityId}
    */
-  getByEntity: (entityType: string, entityId: string, limit: number = 50): Promise<AuditLog[]> =>
-    apiClient.get<AuditLog[]>(`/audit/entity/${entityType}/${entityId}?limit=${limit}`),
+  getByEntity: async (tenantId: string, entityType: string, entityId: string, limit: number = 50): Promise<AuditLog[]> => {
+    const page = await apiClient.get<AuditLogResponse>(
+      `/audit/entity/${entityType}/${entityId}?tenantId=${tenantId}&limit=${limit}`
+    );
+    return page.logs;
+  },
 
   /**
    * Get logs for a specific user
    * GET /api/v1/audit/user/{userId}
    */
-  getByUser: (userId: string, limit: number = 50): Promise<AuditLog[]> =>
-    apiClient.get<AuditLog[]>(`/audit/user/${userId}?limit=${limit}`),
+  getByUser: async (tenantId: string, userId: string, limit: number = 50): Promise<AuditLog[]> => {
+    const page = await apiClient.get<AuditLogResponse>(`/audit/user/${userId}?tenantId=${tenantId}&limit=${limit}`);
+    return page.logs;
+  },
 };
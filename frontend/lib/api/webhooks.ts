@@ -155,7 +155,7 @@ export const webhooksApi = {
    * GET /api/v1/webhooks/{id}/deliveries
    */
   getDeliveries: async (id: string, limit: number = 50): Promise<WebhookDelivery[]> => {
-    const deliveries = await apiClient.get<Array<{
+    const page = await apiClient.get<{ deliveries: Array<{
       id: number;
       webhookId: number;
       eventType: string;
@@ -167,9 +167,9 @@ export const webhooksApi = {
       nextRetryAt?: string | null;
       deliveredAt?: string | null;
       createdAt: string;
-    }>>(`/webhooks/${id}/deliveries?limit=${limit}`);
+    }>; nextCursor: string | null }>(`/webhooks/${id}/deliveries?limit=${limit}`);
 
-    return deliveries.map((d) => ({
+    return page.deliveries.map((d) => ({
       id: String(d.id),
       webhookId: String(d.webhookId),
       eventType: d.eventType as WebhookDelivery["eventType"],
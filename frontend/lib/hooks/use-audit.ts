@@ -1,5 +1,6 @@
 "use client";
 
+import { useEffect, useState } from "react";
 import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import { auditApi } from "@/lib/api/audit";
 import type {
@@ -16,11 +17,33 @@ export function useAuditLogs(filters?: AuditLogFilter) {
   // Convert filters to a stable key
   const filterKey = JSON.stringify(filters);
 
+  // Cursor of every page visited so far; the first page has none
+  const [cursors, setCursors] = useState<Array<string | undefined>>([undefined]);
+  const [page, setPage] = useState(0);
+
+  useEffect(() => {
+    setCursors([undefined]);
+    setPage(0);
+  }, [filterKey]);
+
   const { data, isLoading, error, refetch } = useQuery({
-    queryKey: ["audit-logs", filterKey],
-    queryFn: () => auditApi.getLogs(filters),
+    queryKey: ["audit-logs", filterKey, cursors[page]],
+    queryFn: () => auditApi.getLogs({ ...filters, cursor: cursors[page] }),
+    enabled: !!filters?.tenantId,
   });
 
+  const nextCursor = data?.nextCursor ?? undefined;
+  const isLastVisited = page === cursors.length - 1;
+  const totalPages = isLastVisited && nextCursor ? cursors.length + 1 : cursors.length;
+
+  const goToPage = (newPage: number) => {
+    if (newPage < 0 || newPage >= totalPages) return;
+    if (newPage === cursors.length) {
+      setCursors([...cursors, nextCursor]);
+    }
+    setPage(newPage);
+  };
+
   const exportMutation = useMutation({
     mutationFn: ({ format, filters }: { format: "csv" | "json"; filters?: AuditLogFilter }) =>
       auditApi.export(filters, format),
@@ -43,10 +66,10 @@ export function useAuditLogs(filters?: AuditLogFilter) {
 
   return {
     logs: data?.logs || [],
-    total: data?.total || 0,
-    page: data?.page || 0,
+    page,
     limit: data?.limit || 50,
-    totalPages: data?.totalPages || 0,
+    totalPages,
+    goToPage,
     isLoading,
     error,
     refetch,
@@ -55,33 +78,34 @@ export function useAuditLogs(filters?: AuditLogFilter) {
   };
 }
 
-export function useAuditLog(id: string) {
+export function useAuditLog(id: string, tenantId: string) {
   return useQuery({
-    queryKey: ["audit-logs", id],
-    queryFn: () => auditApi.getById(id),
-    enabled: !!id,
+    queryKey: ["audit-logs", tenantId, id],
+    queryFn: () => auditApi.getById(id, tenantId),
+    enabled: !!id && !!tenantId,
   });
 }
 
-export function useAuditStats(startDate?: string, endDate?: string) {
+export function useAuditStats(tenantId?: string) {
   return useQuery({
-    queryKey: ["audit-stats", startDate, endDate],
-    queryFn: () => auditApi.getStats(startDate, endDate),
+    queryKey: ["audit-stats", tenantId],
+    queryFn: () => auditApi.getStats(tenantId!),
+    enabled: !!tenantId,
   });
 }
 
-export function useEntityAuditLogs(entityType: string, entityId: string, limit?: number) {
+export function useEntityAuditLogs(tenantId: string, entityType: string, entityId: string, limit?: number) {
   return useQuery({
-    queryKey: ["audit-logs", "entity", entityType, entityId, limit],
-    queryFn: () => auditApi.getByEntity(entityType, entityId, limit),
-    enabled: !!entityType && !!entityId,
+    queryKey: ["audit-logs", "entity", tenantId, entityType, entityId, limit],
+    queryFn: () => auditApi.getByEntity(tenantId, entityType, entityId, limit),
+    enabled: !!tenantId && !!entityType && !!entityId,
   });
 }
 
-export function useUserAuditLogs(userId: string, limit?: number) {
+export function useUserAuditLogs(tenantId: string, userId: string, limit?: number) {
   return useQuery({
-    queryKey: ["audit-logs", "user", userId, limit],
-    queryFn: () => auditApi.getByUser(userId, limit),
-    enabled: !!userId,
+    queryKey: ["audit-logs", "user", tenantId, userId, limit],
+    queryFn: () => auditApi.getByUser(tenantId, userId, limit),
+    enabled: !!tenantId && !!userId,
   });
 }
@@ -107,22 +107,21 @@ export interface AuditLog {
 }
 
 export interface AuditLogFilter {
+  tenantId?: string;
   userId?: string;
   action?: AuditAction;
   entityType?: AuditEntityType;
   entityId?: string;
   startDate?: string;
   endDate?: string;
-  page?: number;
+  cursor?: string;
   limit?: number;
 }
 
 export interface AuditLogResponse {
   logs: AuditLog[];
-  total: number;
-  page: number;
   limit: number;
-  totalPages: number;
+  nextCursor: string | null;
 }
 
 export interface AuditStats {
@@ -189,17 +189,12 @@ public class DevKitClient {
             }
         }
 
-        Map<String, String> secretMap = httpClient.get(
-                String.format("/api/v1/secrets/application/%s/environment/%s/map", applicationId, environmentId),
-                Map.class
+        SecretValue secret = httpClient.get(
+                String.format("/api/v1/secrets/application/%s/environment/%s/key/%s", applicationId, environmentId, key),
+                SecretValue.class
         );
 
-        String encryptedValue = secretMap.get(key);
-        if (encryptedValue == null) {
-            throw new IllegalArgumentException("Secret not found: " + key);
-        }
-
-        String decryptedValue = cryptoUtil.decrypt(encryptedValue);
+        String decryptedValue = cryptoUtil.decrypt(secret.encryptedValue());
 
         if (cacheEnabled) {
             cache.put(cacheKey, decryptedValue);
@@ -0,0 +1,10 @@
+package com.devkit.sdk.model;
+
+/**
+ * Encrypted value of a single secret, as served to SDKs.
+ */
+public record SecretValue(
+    String key,
+    String encryptedValue
+) {
+}
@@ -183,16 +183,11 @@ export class DevKitClient {
       }
     }
 
-    const secretMap = await this.httpClient.get<Record<string, string>>(
-      `/api/v1/secrets/application/${applicationId}/environment/${environmentId}/map`
+    const secret = await this.httpClient.get<{ key: string; encryptedValue: string }>(
+      `/api/v1/secrets/application/${applicationId}/environment/${environmentId}/key/${key}`
     );
 
-    const encryptedValue = secretMap[key];
-    if (!encryptedValue) {
-      throw new Error(`Secret not found: ${key}`);
-    }
-
-    const decryptedValue = await this.cryptoUtil!.decrypt(encryptedValue);
+    const decryptedValue = await this.cryptoUtil!.decrypt(secret.encryptedValue);
 
     if (this.cacheEnabled && this.cache) {
       this.cache.set(cacheKey, decryptedValue);